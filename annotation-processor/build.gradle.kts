@@ -0,0 +1,40 @@
+plugins {
+    id("java")
+    id("maven-publish")
+}
+
+group = "com.mongenscave"
+version = rootProject.version
+
+repositories {
+    mavenCentral()
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
+}
+
+publishing {
+    publications {
+        create<MavenPublication>("processor") {
+            from(components["java"])
+
+            groupId = "com.mongenscave"
+            artifactId = "mc-MenuAPI-processor"
+            version = project.version.toString()
+        }
+    }
+
+    repositories {
+        maven {
+            name = "MonGens-Cave"
+            url = uri("https://repo.mongenscave.com/releases")
+            credentials {
+                username = project.findProperty("mongensUsername") as String
+                password = project.findProperty("mongensPassword") as String
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.mongenscave.mcmenuapi.annotation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code <ClassName>_MenuPlaceholders} resolver for every class annotated with
+ * {@code @MenuPlaceholder}. The generated code calls each getter directly and follows the
+ * same naming and conversion rules as the runtime discovery in {@code AutoPlaceholderRegistry}.
+ */
+@SupportedAnnotationTypes(MenuPlaceholderProcessor.ANNOTATION)
+public class MenuPlaceholderProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "com.mongenscave.mcmenuapi.annotation.MenuPlaceholder";
+
+    private static final String RESOLVER = "com.mongenscave.mcmenuapi.context.GeneratedPlaceholderResolver";
+    private static final String REGISTRY = "com.mongenscave.mcmenuapi.context.AutoPlaceholderRegistry";
+    private static final String CLASS_SUFFIX = "_MenuPlaceholders";
+
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement annotation = elements.getTypeElement(ANNOTATION);
+        if (annotation == null) {
+            return false;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.RECORD) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@MenuPlaceholder can only be used on classes", element);
+                continue;
+            }
+
+            TypeElement type = (TypeElement) element;
+            if (!isAccessible(type)) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@MenuPlaceholder classes must not be private", element);
+                continue;
+            }
+
+            try {
+                generate(type);
+            } catch (IOException exception) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Failed to generate placeholder resolver: " + exception.getMessage(), element);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks that the generated class in the same package can reference the type
+     */
+    private boolean isAccessible(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement typeElement) {
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (typeElement.getNestingKind() == NestingKind.LOCAL || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            current = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * Collects the getters of a type keyed by property name, mirroring the runtime discovery:
+     * every public no-arg non-void {@code get*}/{@code is*} method, and {@code getX} wins over {@code isX}
+     */
+    private Map<String, ExecutableElement> collectGetters(TypeElement type) {
+        Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (!isGetter(method)) {
+                continue;
+            }
+
+            getters.merge(extractPropertyName(method.getSimpleName().toString()), method, this::preferredGetter);
+        }
+
+        return getters;
+    }
+
+    private boolean isGetter(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+
+        if (!name.startsWith("get") && !name.startsWith("is")) {
+            return false;
+        }
+
+        // Class#getMethods() only returns public methods
+        if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+            return false;
+        }
+
+        if (!method.getParameters().isEmpty()) {
+            return false;
+        }
+
+        if (method.getReturnType().getKind() == TypeKind.VOID) {
+            return false;
+        }
+
+        return !name.equals("getClass") && !name.equals("hashCode");
+    }
+
+    /**
+     * Picks the getter of a property when both {@code isX} and {@code getX} exist; {@code getX} wins
+     */
+    private ExecutableElement preferredGetter(ExecutableElement first, ExecutableElement second) {
+        return second.getSimpleName().toString().startsWith("get") && !first.getSimpleName().toString().startsWith("get")
+                ? second
+                : first;
+    }
+
+    private String extractPropertyName(String methodName) {
+        String name;
+
+        if (methodName.startsWith("is")) {
+            name = methodName.substring(2);
+        } else if (methodName.startsWith("get")) {
+            name = methodName.substring(3);
+        } else {
+            name = methodName;
+        }
+
+        if (!name.isEmpty()) {
+            return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+        }
+
+        return name;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        PackageElement packageElement = elements.getPackageOf(type);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleBinaryName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        String resolverName = simpleBinaryName.replace('$', '_') + CLASS_SUFFIX;
+        String typeName = types.erasure(type.asType()).toString();
+
+        Map<String, ExecutableElement> getters = collectGetters(type);
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("@javax.annotation.processing.Generated(\"").append(MenuPlaceholderProcessor.class.getName()).append("\")\n");
+        source.append("public final class ").append(resolverName)
+                .append(" implements ").append(RESOLVER).append('<').append(typeName).append("> {\n\n");
+
+        source.append("    private static final String[] PLACEHOLDERS = {\n");
+        for (String property : getters.keySet()) {
+            source.append("            \"{context.").append(property).append("}\",\n");
+        }
+        source.append("    };\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public String[] placeholders() {\n");
+        source.append("        return PLACEHOLDERS.clone();\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public void resolve(").append(typeName).append(" context, java.util.Set<String> requested, java.util.Map<String, String> out) {\n");
+        for (Map.Entry<String, ExecutableElement> entry : getters.entrySet()) {
+            String key = "{context." + entry.getKey() + "}";
+            ExecutableElement getter = entry.getValue();
+            String target = getter.getModifiers().contains(Modifier.STATIC) ? typeName : "context";
+            String call = target + "." + getter.getSimpleName() + "()";
+            String value = getter.getReturnType().getKind().isPrimitive()
+                    ? "String.valueOf(" + call + ")"
+                    : REGISTRY + ".convertToString(" + call + ")";
+
+            source.append("        if (requested == null || requested.contains(\"").append(key).append("\")) {\n");
+            source.append("            try {\n");
+            source.append("                put(out, \"").append(key).append("\", ").append(value).append(");\n");
+            source.append("            } catch (Exception ignored) {}\n");
+            source.append("        }\n");
+        }
+        source.append("    }\n\n");
+
+        source.append("    private static void put(java.util.Map<String, String> out, String key, String value) {\n");
+        source.append("        if (value != null) {\n");
+        source.append("            out.put(key, value);\n");
+        source.append("        }\n");
+        source.append("    }\n");
+        source.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? resolverName : packageName + "." + resolverName;
+        JavaFileObject file = filer.createSourceFile(qualifiedName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+}
@@ -3,6 +3,7 @@ plugins {
     id("com.gradleup.shadow") version("8.3.2")
     id("io.freefair.lombok") version("8.11")
     id("maven-publish")
+    id("me.champeau.jmh") version("0.7.2")
 }
 
 group = "com.mongenscave"
@@ -37,6 +38,14 @@ dependencies {
     compileOnly("dev.lone:api-itemsadder:4.0.10")
 
     implementation("dev.dejvokep:boosted-yaml:1.3.6")
+
+    jmh("io.papermc.paper:paper-api:1.21.8-R0.1-SNAPSHOT")
+}
+
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
 }
 
 java {
@@ -86,5 +95,9 @@ publishing {
 }
 
 tasks.register("deployApi") {
-    dependsOn("apiJar", "publishApiJarPublicationToMonGens-CaveRepository")
+    dependsOn(
+        "apiJar",
+        "publishApiJarPublicationToMonGens-CaveRepository",
+        ":annotation-processor:publishProcessorPublicationToMonGens-CaveRepository"
+    )
 }
\ No newline at end of file
@@ -1 +1,3 @@
 rootProject.name = "mc-MenuAPI"
+
+include("annotation-processor")
@@ -0,0 +1,75 @@
+package com.mongenscave.mcmenuapi.processor;
+
+import org.bukkit.ChatColor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the previous regex + translateAlternateColorCodes implementation with the single-pass translator,
+ * with and without the memo cache.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@SuppressWarnings("deprecation")
+public class ColorProcessorBenchmark {
+
+    private static final char COLOR_CHAR = '§';
+    private static final Pattern HEX_PATTERN = Pattern.compile("&#([A-Fa-f0-9]{6})");
+
+    private final String[] inputs = {
+            "&6&lShop Menu",
+            "&7Click to buy &a{item} &7for &e{price}",
+            "&#FF5555Deals massive damage &8| &#55FF55Heals &7over time",
+            "&8&m                              ",
+            "Plain text without any color codes",
+    };
+
+    @Benchmark
+    public void regexBaseline(Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(regexProcess(input));
+        }
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(ColorProcessor.translate(input));
+        }
+    }
+
+    @Benchmark
+    public void memoized(Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(ColorProcessor.process(input));
+        }
+    }
+
+    /**
+     * The implementation before the single-pass translator
+     */
+    private static String regexProcess(String message) {
+        Matcher matcher = HEX_PATTERN.matcher(message);
+        StringBuilder builder = new StringBuilder(message.length() + 4 * 8);
+
+        while (matcher.find()) {
+            String group = matcher.group(1);
+
+            matcher.appendReplacement(builder, COLOR_CHAR + "x"
+                    + COLOR_CHAR + group.charAt(0) + COLOR_CHAR + group.charAt(1)
+                    + COLOR_CHAR + group.charAt(2) + COLOR_CHAR + group.charAt(3)
+                    + COLOR_CHAR + group.charAt(4) + COLOR_CHAR + group.charAt(5)
+            );
+        }
+
+        String hexProcessed = matcher.appendTail(builder).toString();
+        return ChatColor.translateAlternateColorCodes('&', hexProcessed);
+    }
+}
@@ -1,11 +1,15 @@
 package com.mongenscave.mcmenuapi;
 
+import com.mongenscave.mcmenuapi.context.ContextPlaceholderRegistry;
 import com.mongenscave.mcmenuapi.context.MenuContext;
 import com.mongenscave.mcmenuapi.listener.MenuListener;
 import com.mongenscave.mcmenuapi.loader.MenuLoader;
 import com.mongenscave.mcmenuapi.menu.Menu;
 import com.mongenscave.mcmenuapi.menu.SimpleMenu;
 import com.mongenscave.mcmenuapi.refresh.MenuRefreshManager;
+import com.mongenscave.mcmenuapi.refresh.RefreshCoalescer;
+import com.mongenscave.mcmenuapi.refresh.RenderPipeline;
+import com.mongenscave.mcmenuapi.registry.PlaceholderRegistry;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
@@ -71,6 +75,8 @@ public class McMenuAPI {
     private final Map<String, Menu> loadedMenus;
     private final Map<UUID, Menu> openMenus;
     private final MenuRefreshManager refreshManager;
+    private final RefreshCoalescer refreshCoalescer;
+    private final RenderPipeline renderPipeline;
 
     /**
      * Creates a new MenuAPI instance
@@ -89,10 +95,18 @@ public class McMenuAPI {
         // Register event listener
         Bukkit.getPluginManager().registerEvents(new MenuListener(this), plugin);
 
+        // Initialize refresh coalescing (applies refresh requests once at the end of each tick)
+        this.refreshCoalescer = new RefreshCoalescer(plugin);
+        this.refreshCoalescer.start();
+
         // Initialize refresh manager
         this.refreshManager = new MenuRefreshManager(plugin, this);
         this.refreshManager.start();
 
+        // Initialize render pipeline (used by menus with async rendering enabled)
+        this.renderPipeline = new RenderPipeline(plugin);
+        this.renderPipeline.start();
+
         // Load all menus
         loadAllMenus();
     }
@@ -131,6 +145,7 @@ public class McMenuAPI {
         });
 
         openMenus.clear();
+        refreshManager.reconcile();
         MenuContext.clearAll();
         loadAllMenus();
     }
@@ -218,6 +233,9 @@ public class McMenuAPI {
             menu.open(player);
         }
 
+        // Schedule auto-refresh for this session
+        refreshManager.onMenuOpen(player.getUniqueId(), menu);
+
         return true;
     }
 
@@ -229,6 +247,7 @@ public class McMenuAPI {
     public void closeMenu(@NotNull Player player) {
         Menu menu = openMenus.remove(player.getUniqueId());
         if (menu != null) {
+            refreshManager.onMenuClose(player.getUniqueId());
             menu.close(player);
         }
         MenuContext.clear(player);
@@ -246,17 +265,53 @@ public class McMenuAPI {
     }
 
     /**
-     * Refreshes the currently open menu for a player
+     * Refreshes the currently open menu for a player at the end of the tick.
+     * Repeated requests within a tick are merged into one refresh.
      *
      * @param player the player
      */
     public void refreshMenu(@NotNull Player player) {
         Menu menu = openMenus.get(player.getUniqueId());
         if (menu != null) {
-            menu.refresh(player);
+            refreshCoalescer.requestRefresh(player, menu);
+        }
+    }
+
+    /**
+     * Marks a placeholder as changed for a player.
+     * Drops its cached value and re-renders only the parts of the open menu that use it.
+     *
+     * @param placeholder the placeholder key (e.g., "{balance}")
+     * @param player the player
+     */
+    public void invalidatePlaceholder(@NotNull String placeholder, @NotNull Player player) {
+        PlaceholderRegistry.invalidate(placeholder, player.getUniqueId());
+        ContextPlaceholderRegistry.invalidate(placeholder, player.getUniqueId());
+
+        Menu menu = openMenus.get(player.getUniqueId());
+        if (menu != null) {
+            menu.refreshPlaceholder(player, placeholder);
         }
     }
 
+    /**
+     * Marks a placeholder as changed for every player.
+     * Drops its cached values and re-renders the parts of all open menus that use it.
+     *
+     * @param placeholder the placeholder key (e.g., "{top_clan}")
+     */
+    public void invalidatePlaceholder(@NotNull String placeholder) {
+        PlaceholderRegistry.invalidate(placeholder);
+        ContextPlaceholderRegistry.invalidate(placeholder);
+
+        openMenus.forEach((uuid, menu) -> {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                menu.refreshPlaceholder(player, placeholder);
+            }
+        });
+    }
+
     /**
      * Gets the menu context for a player
      *
@@ -336,6 +391,14 @@ public class McMenuAPI {
             refreshManager.stop();
         }
 
+        if (refreshCoalescer != null) {
+            refreshCoalescer.stop();
+        }
+
+        if (renderPipeline != null) {
+            renderPipeline.stop();
+        }
+
         // Close all open menus
         openMenus.forEach((uuid, menu) -> {
             Player player = Bukkit.getPlayer(uuid);
@@ -159,10 +159,11 @@ public class ActionContext {
     // === Utility Methods ===
 
     /**
-     * Refreshes the current menu for the player
+     * Refreshes the current menu for the player at the end of the tick;
+     * repeated refreshes from one handler are merged
      */
     public void refresh() {
-        menu.refresh(player);
+        menu.requestRefresh(player);
     }
 
     /**
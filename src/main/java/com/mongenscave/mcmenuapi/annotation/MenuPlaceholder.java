@@ -0,0 +1,31 @@
+package com.mongenscave.mcmenuapi.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a context class for compile-time placeholder generation.
+ * <p>
+ * With the {@code mc-MenuAPI-processor} annotation processor on the compile classpath, a
+ * {@code <ClassName>_MenuPlaceholders} resolver is generated next to the annotated class.
+ * It reads every public getter into its {@code {context.*}} placeholder with plain method
+ * calls, and {@link com.mongenscave.mcmenuapi.context.AutoPlaceholderRegistry} uses it
+ * instead of discovering getters at runtime.
+ *
+ * <h3>Example usage:</h3>
+ * <pre>{@code
+ * @MenuPlaceholder
+ * public class SellChest {
+ *     public String getOwnerName() { return ownerName; }   // {context.ownerName}
+ *     public int getTotalEarned() { return totalEarned; }  // {context.totalEarned}
+ * }
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface MenuPlaceholder {
+}
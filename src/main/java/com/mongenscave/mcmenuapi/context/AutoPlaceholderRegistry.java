@@ -1,21 +1,46 @@
 package com.mongenscave.mcmenuapi.context;
 
+import com.mongenscave.mcmenuapi.template.PlaceholderFormatters;
+import com.mongenscave.mcmenuapi.template.PlaceholderTemplate;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
- * Automatically discovers and applies placeholders from context objects using reflection.
+ * Automatically discovers and applies placeholders from context objects.
  * No manual registration needed!
+ * <p>
+ * Classes annotated with {@link com.mongenscave.mcmenuapi.annotation.MenuPlaceholder} use the
+ * resolver generated at compile time. For all other classes getters are discovered once and
+ * turned into generated accessors (via {@link LambdaMetafactory}). Both are stored in a
+ * {@link ClassValue} so plugin classes can still be unloaded on reload.
  */
 public class AutoPlaceholderRegistry {
 
-    private static final Map<Class<?>, Map<String, Method>> GETTER_CACHE = new ConcurrentHashMap<>();
+    private static final ClassValue<GeneratedPlaceholderResolver<Object>> RESOLVERS = new ClassValue<>() {
+        @Override
+        protected GeneratedPlaceholderResolver<Object> computeValue(@NotNull Class<?> type) {
+            CACHED_CLASSES.add(type);
+
+            GeneratedPlaceholderResolver<Object> generated = loadGeneratedResolver(type);
+            return generated != null ? generated : discoverAccessors(type);
+        }
+    };
+    private static final Set<Class<?>> CACHED_CLASSES = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
     private static final Set<String> PRIMITIVE_WRAPPERS = new HashSet<>(Arrays.asList(
             "java.lang.Boolean", "java.lang.Byte", "java.lang.Character",
             "java.lang.Short", "java.lang.Integer", "java.lang.Long",
@@ -37,23 +62,7 @@ public class AutoPlaceholderRegistry {
             return placeholders;
         }
 
-        Class<?> contextClass = context.getClass();
-        Map<String, Method> getters = GETTER_CACHE.computeIfAbsent(contextClass,
-                AutoPlaceholderRegistry::discoverGetters
-        );
-
-        for (Map.Entry<String, Method> entry : getters.entrySet()) {
-            String placeholder = "{context." + entry.getKey() + "}";
-            Method method = entry.getValue();
-
-            try {
-                Object value = method.invoke(context);
-                String stringValue = convertToString(value);
-                if (stringValue != null) {
-                    placeholders.put(placeholder, stringValue);
-                }
-            } catch (Exception ignored) {}
-        }
+        RESOLVERS.get(context.getClass()).resolve(context, null, placeholders);
 
         placeholders.put("{player}", player.getName());
         placeholders.put("{player_uuid}", player.getUniqueId().toString());
@@ -61,6 +70,35 @@ public class AutoPlaceholderRegistry {
         return placeholders;
     }
 
+    /**
+     * Resolves only the requested placeholders from a context object.
+     * Getters whose placeholder is not requested are never invoked.
+     *
+     * @param player       the player (for player-specific placeholders)
+     * @param context      the context object (e.g., SellChest)
+     * @param placeholders the placeholders to resolve
+     * @return map of {placeholder} -> value
+     */
+    @NotNull
+    public static Map<String, String> resolveAll(@NotNull Player player, @Nullable Object context, @NotNull Set<String> placeholders) {
+        Map<String, String> resolved = new HashMap<>();
+
+        if (context == null || placeholders.isEmpty()) {
+            return resolved;
+        }
+
+        RESOLVERS.get(context.getClass()).resolve(context, placeholders, resolved);
+
+        if (placeholders.contains("{player}")) {
+            resolved.put("{player}", player.getName());
+        }
+        if (placeholders.contains("{player_uuid}")) {
+            resolved.put("{player_uuid}", player.getUniqueId().toString());
+        }
+
+        return resolved;
+    }
+
     /**
      * Applies placeholders to a string
      *
@@ -75,35 +113,121 @@ public class AutoPlaceholderRegistry {
             return text;
         }
 
-        Map<String, String> placeholders = resolveAll(player, context);
-        String result = text;
+        return PlaceholderTemplate.compile(text).fill(resolveAll(player, context));
+    }
 
-        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-            result = result.replace(entry.getKey(), entry.getValue());
+    /**
+     * Loads the resolver generated for a {@link com.mongenscave.mcmenuapi.annotation.MenuPlaceholder} class, if any
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static GeneratedPlaceholderResolver<Object> loadGeneratedResolver(@NotNull Class<?> clazz) {
+        String resolverName = clazz.getName().replace('$', '_') + GeneratedPlaceholderResolver.CLASS_SUFFIX;
+
+        try {
+            Class<?> resolverClass = Class.forName(resolverName, true, clazz.getClassLoader());
+            if (!GeneratedPlaceholderResolver.class.isAssignableFrom(resolverClass)) {
+                return null;
+            }
+            return (GeneratedPlaceholderResolver<Object>) resolverClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+            return null;
         }
-
-        return result;
     }
 
     /**
-     * Discovers all getter methods in a class
+     * Discovers all getter methods in a class and builds an accessor for each
      */
     @NotNull
-    private static Map<String, Method> discoverGetters(@NotNull Class<?> clazz) {
+    private static ContextAccessors discoverAccessors(@NotNull Class<?> clazz) {
         Map<String, Method> getters = new HashMap<>();
 
         for (Method method : clazz.getMethods()) {
-            String methodName = method.getName();
-
             if (!isGetter(method)) {
                 continue;
             }
 
-            String propertyName = extractPropertyName(methodName);
-            getters.put(propertyName, method);
+            String propertyName = extractPropertyName(method.getName());
+            getters.merge(propertyName, method, AutoPlaceholderRegistry::preferredGetter);
+        }
+
+        String[] placeholders = new String[getters.size()];
+        PropertyAccessor[] readers = new PropertyAccessor[getters.size()];
+        Map<String, Integer> indexes = new HashMap<>();
+
+        int i = 0;
+        for (Map.Entry<String, Method> entry : getters.entrySet()) {
+            placeholders[i] = "{context." + entry.getKey() + "}";
+            readers[i] = createAccessor(entry.getValue());
+            indexes.put(placeholders[i], i);
+            i++;
         }
 
-        return getters;
+        return new ContextAccessors(placeholders, readers, indexes);
+    }
+
+    /**
+     * Creates a generated accessor for a getter, specialised for primitive return types to avoid boxing.
+     * Falls back to reflection when the getter's class cannot be looked up (e.g. JDK types).
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private static PropertyAccessor createAccessor(@NotNull Method method) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(method);
+            Class<?> returnType = method.getReturnType();
+
+            if (returnType == int.class) {
+                ToIntFunction<Object> getter = (ToIntFunction<Object>) generate(lookup, handle, ToIntFunction.class, "applyAsInt", handle.type());
+                return target -> String.valueOf(getter.applyAsInt(target));
+            }
+            if (returnType == long.class) {
+                ToLongFunction<Object> getter = (ToLongFunction<Object>) generate(lookup, handle, ToLongFunction.class, "applyAsLong", handle.type());
+                return target -> String.valueOf(getter.applyAsLong(target));
+            }
+            if (returnType == double.class) {
+                ToDoubleFunction<Object> getter = (ToDoubleFunction<Object>) generate(lookup, handle, ToDoubleFunction.class, "applyAsDouble", handle.type());
+                return target -> String.valueOf(getter.applyAsDouble(target));
+            }
+            if (returnType == boolean.class) {
+                Predicate<Object> getter = (Predicate<Object>) generate(lookup, handle, Predicate.class, "test", handle.type());
+                return target -> String.valueOf(getter.test(target));
+            }
+
+            Function<Object, Object> getter = (Function<Object, Object>) generate(lookup, handle, Function.class, "apply", handle.type().wrap());
+            return target -> convertToString(getter.apply(target));
+        } catch (Throwable throwable) {
+            return target -> convertToString(method.invoke(target));
+        }
+    }
+
+    /**
+     * Spins a functional interface implementation that calls the getter directly
+     */
+    @NotNull
+    private static Object generate(
+            @NotNull MethodHandles.Lookup lookup,
+            @NotNull MethodHandle handle,
+            @NotNull Class<?> functionalInterface,
+            @NotNull String methodName,
+            @NotNull MethodType instantiatedType
+    ) throws Throwable {
+        Method samMethod = Arrays.stream(functionalInterface.getMethods())
+                .filter(method -> method.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow();
+
+        CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                methodName,
+                MethodType.methodType(functionalInterface),
+                MethodType.methodType(samMethod.getReturnType(), samMethod.getParameterTypes()),
+                handle,
+                instantiatedType
+        );
+
+        return site.getTarget().invoke();
     }
 
     /**
@@ -127,6 +251,22 @@ public class AutoPlaceholderRegistry {
         return !name.equals("getClass") && !name.equals("hashCode");
     }
 
+    /**
+     * Picks the getter of a property when several methods map to it.
+     * {@code getX} wins over {@code isX}, and a declared method wins over a covariant bridge.
+     * The annotation processor applies the same rule.
+     */
+    @NotNull
+    private static Method preferredGetter(@NotNull Method first, @NotNull Method second) {
+        boolean firstGet = first.getName().startsWith("get");
+        boolean secondGet = second.getName().startsWith("get");
+        if (firstGet != secondGet) {
+            return firstGet ? first : second;
+        }
+
+        return first.isBridge() && !second.isBridge() ? second : first;
+    }
+
     /**
      * Extracts property name from getter method name
      */
@@ -151,9 +291,13 @@ public class AutoPlaceholderRegistry {
 
     /**
      * Converts various types to strings intelligently
+     * Used by generated resolvers as well, so both paths produce the same values.
+     *
+     * @param value the getter result
+     * @return the placeholder value, or null if the type is not supported
      */
     @Nullable
-    private static String convertToString(@Nullable Object value) {
+    public static String convertToString(@Nullable Object value) {
         if (value == null) {
             return null;
         }
@@ -169,7 +313,7 @@ public class AutoPlaceholderRegistry {
         }
 
         if (value instanceof Date) {
-            return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format((Date) value);
+            return PlaceholderFormatters.formatCanonical(Instant.ofEpochMilli(((Date) value).getTime()));
         }
 
         if (value instanceof Collection || value instanceof Map) {
@@ -188,16 +332,71 @@ public class AutoPlaceholderRegistry {
     }
 
     /**
-     * Clears the getter cache (useful for testing)
+     * Clears the accessor cache (useful for testing)
      */
     public static void clearCache() {
-        GETTER_CACHE.clear();
+        List<Class<?>> classes;
+        synchronized (CACHED_CLASSES) {
+            classes = new ArrayList<>(CACHED_CLASSES);
+            CACHED_CLASSES.clear();
+        }
+        classes.forEach(RESOLVERS::remove);
     }
 
     /**
      * Gets the number of cached classes
      */
     public static int getCacheSize() {
-        return GETTER_CACHE.size();
+        return CACHED_CLASSES.size();
+    }
+
+    /**
+     * Reads one property of a context object as a placeholder value
+     */
+    @FunctionalInterface
+    private interface PropertyAccessor {
+        @Nullable
+        String read(@NotNull Object target) throws Exception;
+    }
+
+    /**
+     * Accessors of one context class with their precomputed {@code {context.*}} keys
+     */
+    private record ContextAccessors(
+            @NotNull String[] placeholders,
+            @NotNull PropertyAccessor[] readers,
+            @NotNull Map<String, Integer> indexes
+    ) implements GeneratedPlaceholderResolver<Object> {
+
+        @Override
+        public void resolve(@NotNull Object context, @Nullable Set<String> requested, @NotNull Map<String, String> out) {
+            if (requested == null) {
+                for (int i = 0; i < placeholders.length; i++) {
+                    read(i, context, out);
+                }
+            } else if (requested.size() < placeholders.length) {
+                for (String placeholder : requested) {
+                    Integer index = indexes.get(placeholder);
+                    if (index != null) {
+                        read(index, context, out);
+                    }
+                }
+            } else {
+                for (int i = 0; i < placeholders.length; i++) {
+                    if (requested.contains(placeholders[i])) {
+                        read(i, context, out);
+                    }
+                }
+            }
+        }
+
+        private void read(int index, @NotNull Object target, @NotNull Map<String, String> out) {
+            try {
+                String value = readers[index].read(target);
+                if (value != null) {
+                    out.put(placeholders[index], value);
+                }
+            } catch (Exception ignored) {}
+        }
     }
-}
\ No newline at end of file
+}
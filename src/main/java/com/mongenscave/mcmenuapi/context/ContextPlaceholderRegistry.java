@@ -1,12 +1,23 @@
 package com.mongenscave.mcmenuapi.context;
 
+import com.mongenscave.mcmenuapi.registry.AsyncPlaceholder;
+import com.mongenscave.mcmenuapi.registry.CachePolicy;
+import com.mongenscave.mcmenuapi.template.PlaceholderTemplate;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
 /**
@@ -30,11 +41,23 @@ import java.util.function.BiFunction;
  * );
  * // This creates: {context.earned}, {context.sold}, {context.owner}
  * }</pre>
+ * <p>
+ * Lookups go through a per-class view of every resolver that applies to the concrete context
+ * class, so rendering never scans the registered types. Views are rebuilt after registrations change.
+ * When several registered types provide the same placeholder, the most specific type wins.
  */
 public class ContextPlaceholderRegistry {
 
     // Map<ContextType, Map<Placeholder, Resolver>>
     private static final ConcurrentHashMap<Class<?>, Map<String, BiFunction<Player, Object, String>>> registry = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Class<?>, Map<String, AsyncPlaceholder>> asyncPlaceholders = new ConcurrentHashMap<>();
+    private static final AtomicInteger version = new AtomicInteger();
+    private static final ClassValue<ViewHolder> views = new ClassValue<>() {
+        @Override
+        protected ViewHolder computeValue(@NotNull Class<?> type) {
+            return new ViewHolder();
+        }
+    };
 
     /**
      * Registers a context-aware placeholder
@@ -52,6 +75,54 @@ public class ContextPlaceholderRegistry {
     ) {
         registry.computeIfAbsent(contextType, k -> new ConcurrentHashMap<>())
                 .put(placeholder, (player, context) -> resolver.apply(player, (T) context));
+        version.incrementAndGet();
+    }
+
+    /**
+     * Registers a context-aware placeholder that is loaded asynchronously.
+     * The loading value is shown until the future completes, then the slots using it are updated.
+     * The loaded value is kept until it is invalidated or the context changes.
+     *
+     * @param contextType the type of context this placeholder works with
+     * @param placeholder the placeholder string (e.g., "{kills}")
+     * @param loader function that starts loading the value
+     * @param loadingValue the value shown while loading
+     * @param <T> the context type
+     */
+    public static <T> void registerAsync(
+            @NotNull Class<T> contextType,
+            @NotNull String placeholder,
+            @NotNull BiFunction<Player, T, CompletableFuture<String>> loader,
+            @NotNull String loadingValue
+    ) {
+        registerAsync(contextType, placeholder, loader, loadingValue, null);
+    }
+
+    /**
+     * Registers a context-aware placeholder that is loaded asynchronously,
+     * keeping loaded values according to a cache policy.
+     * Values are kept per context object, so switching context reloads them.
+     *
+     * @param contextType the type of context this placeholder works with
+     * @param placeholder the placeholder string (e.g., "{kills}")
+     * @param loader function that starts loading the value
+     * @param loadingValue the value shown while loading
+     * @param policy how long loaded values are kept, or null to keep them until invalidated
+     * @param <T> the context type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void registerAsync(
+            @NotNull Class<T> contextType,
+            @NotNull String placeholder,
+            @NotNull BiFunction<Player, T, CompletableFuture<String>> loader,
+            @NotNull String loadingValue,
+            @Nullable CachePolicy policy
+    ) {
+        AsyncPlaceholder async = new AsyncPlaceholder(placeholder, loadingValue, policy);
+        asyncPlaceholders.computeIfAbsent(contextType, k -> new ConcurrentHashMap<>()).put(placeholder, async);
+        registry.computeIfAbsent(contextType, k -> new ConcurrentHashMap<>())
+                .put(placeholder, (player, context) -> async.get(player, context, () -> loader.apply(player, (T) context)));
+        version.incrementAndGet();
     }
 
     /**
@@ -75,6 +146,7 @@ public class ContextPlaceholderRegistry {
             String placeholder = "{" + prefix + "." + key + "}";
             typeResolvers.put(placeholder, (player, context) -> resolver.apply(player, (T) context));
         });
+        version.incrementAndGet();
     }
 
     /**
@@ -92,19 +164,43 @@ public class ContextPlaceholderRegistry {
             return resolved;
         }
 
-        Class<?> contextType = context.getClass();
-
-        for (Map.Entry<Class<?>, Map<String, BiFunction<Player, Object, String>>> entry : registry.entrySet()) {
-            if (entry.getKey().isAssignableFrom(contextType)) {
-                for (Map.Entry<String, BiFunction<Player, Object, String>> placeholder : entry.getValue().entrySet()) {
-                    try {
-                        String value = placeholder.getValue().apply(player, context);
-                        if (value != null) {
-                            resolved.put(placeholder.getKey(), value);
-                        }
-                    } catch (Exception e) {
-                        // Skip failed placeholders
-                    }
+        ContextView view = viewOf(context.getClass());
+        for (int i = 0; i < view.placeholders().length; i++) {
+            view.apply(i, player, context, resolved);
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Resolves only the requested placeholders for a player's context.
+     * Resolvers for placeholders that are not requested are never called.
+     *
+     * @param player the player
+     * @param placeholders the placeholders to resolve
+     * @return map of placeholder to resolved value
+     */
+    @NotNull
+    public static Map<String, String> resolveAll(@NotNull Player player, @NotNull Set<String> placeholders) {
+        Map<String, String> resolved = new HashMap<>();
+
+        Object context = MenuContext.getRaw(player);
+        if (context == null || placeholders.isEmpty()) {
+            return resolved;
+        }
+
+        ContextView view = viewOf(context.getClass());
+        if (placeholders.size() < view.placeholders().length) {
+            for (String placeholder : placeholders) {
+                Integer index = view.indexes().get(placeholder);
+                if (index != null) {
+                    view.apply(index, player, context, resolved);
+                }
+            }
+        } else {
+            for (int i = 0; i < view.placeholders().length; i++) {
+                if (placeholders.contains(view.placeholders()[i])) {
+                    view.apply(i, player, context, resolved);
                 }
             }
         }
@@ -126,22 +222,17 @@ public class ContextPlaceholderRegistry {
             return null;
         }
 
-        Class<?> contextType = context.getClass();
-
-        for (Map.Entry<Class<?>, Map<String, BiFunction<Player, Object, String>>> entry : registry.entrySet()) {
-            if (entry.getKey().isAssignableFrom(contextType)) {
-                BiFunction<Player, Object, String> resolver = entry.getValue().get(placeholder);
-                if (resolver != null) {
-                    try {
-                        return resolver.apply(player, context);
-                    } catch (Exception e) {
-                        return null;
-                    }
-                }
-            }
+        ContextView view = viewOf(context.getClass());
+        Integer index = view.indexes().get(placeholder);
+        if (index == null) {
+            return null;
         }
 
-        return null;
+        try {
+            return view.resolvers()[index].apply(player, context);
+        } catch (Exception e) {
+            return null;
+        }
     }
 
     /**
@@ -153,14 +244,45 @@ public class ContextPlaceholderRegistry {
      */
     @NotNull
     public static String apply(@NotNull Player player, @NotNull String text) {
-        Map<String, String> placeholders = resolveAll(player);
-        String result = text;
+        return PlaceholderTemplate.compile(text).fill(resolveAll(player));
+    }
 
-        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-            result = result.replace(entry.getKey(), entry.getValue());
-        }
+    /**
+     * Drops the loaded values of an asynchronous placeholder for one player, so it is loaded again on the next render
+     *
+     * @param placeholder the placeholder key
+     * @param playerId the player
+     */
+    public static void invalidate(@NotNull String placeholder, @NotNull UUID playerId) {
+        asyncPlaceholders.values().forEach(placeholders -> {
+            AsyncPlaceholder async = placeholders.get(placeholder);
+            if (async != null) {
+                async.invalidate(playerId);
+            }
+        });
+    }
+
+    /**
+     * Drops all loaded values of an asynchronous placeholder
+     *
+     * @param placeholder the placeholder key
+     */
+    public static void invalidate(@NotNull String placeholder) {
+        asyncPlaceholders.values().forEach(placeholders -> {
+            AsyncPlaceholder async = placeholders.get(placeholder);
+            if (async != null) {
+                async.invalidate();
+            }
+        });
+    }
 
-        return result;
+    /**
+     * Drops the asynchronous placeholder values loaded for a player (e.g. when they leave)
+     *
+     * @param playerId the player
+     */
+    public static void clearPlayer(@NotNull UUID playerId) {
+        asyncPlaceholders.values().forEach(placeholders -> placeholders.values().forEach(async -> async.forget(playerId)));
     }
 
     /**
@@ -170,6 +292,8 @@ public class ContextPlaceholderRegistry {
      */
     public static void unregister(@NotNull Class<?> contextType) {
         registry.remove(contextType);
+        asyncPlaceholders.remove(contextType);
+        version.incrementAndGet();
     }
 
     /**
@@ -177,6 +301,8 @@ public class ContextPlaceholderRegistry {
      */
     public static void clearAll() {
         registry.clear();
+        asyncPlaceholders.clear();
+        version.incrementAndGet();
     }
 
     /**
@@ -187,4 +313,101 @@ public class ContextPlaceholderRegistry {
     public static int size() {
         return registry.size();
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the resolvers that apply to a concrete context class, rebuilding the view if registrations changed
+     */
+    @NotNull
+    private static ContextView viewOf(@NotNull Class<?> contextType) {
+        ViewHolder holder = views.get(contextType);
+        int current = version.get();
+
+        ContextView view = holder.view;
+        if (view == null || view.version() != current) {
+            view = buildView(contextType, current);
+            holder.view = view;
+        }
+        return view;
+    }
+
+    /**
+     * Collects the resolvers of every registered type the context class is assignable to, most specific type first
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private static ContextView buildView(@NotNull Class<?> contextType, int version) {
+        List<Class<?>> applicable = new ArrayList<>();
+        for (Class<?> registered : registry.keySet()) {
+            if (registered.isAssignableFrom(contextType)) {
+                applicable.add(registered);
+            }
+        }
+        applicable.sort(Comparator.comparingInt(ContextPlaceholderRegistry::depth).reversed());
+
+        Map<String, BiFunction<Player, Object, String>> merged = new LinkedHashMap<>();
+        for (Class<?> registered : applicable) {
+            Map<String, BiFunction<Player, Object, String>> resolvers = registry.get(registered);
+            if (resolvers != null) {
+                resolvers.forEach(merged::putIfAbsent);
+            }
+        }
+
+        String[] placeholders = new String[merged.size()];
+        BiFunction<Player, Object, String>[] resolvers = new BiFunction[merged.size()];
+        Map<String, Integer> indexes = new HashMap<>();
+
+        int i = 0;
+        for (Map.Entry<String, BiFunction<Player, Object, String>> entry : merged.entrySet()) {
+            placeholders[i] = entry.getKey();
+            resolvers[i] = entry.getValue();
+            indexes.put(entry.getKey(), i);
+            i++;
+        }
+
+        return new ContextView(version, placeholders, resolvers, indexes);
+    }
+
+    /**
+     * Gets the length of the longest supertype chain of a type, so subtypes always sort before their supertypes
+     */
+    private static int depth(@Nullable Class<?> type) {
+        if (type == null) {
+            return 0;
+        }
+
+        int depth = depth(type.getSuperclass());
+        for (Class<?> parent : type.getInterfaces()) {
+            depth = Math.max(depth, depth(parent));
+        }
+        return depth + 1;
+    }
+
+    /**
+     * Mutable slot for the view of one context class, since {@link ClassValue} entries cannot be replaced
+     */
+    private static final class ViewHolder {
+        private volatile ContextView view;
+    }
+
+    /**
+     * Flattened resolvers applicable to one context class
+     */
+    private record ContextView(
+            int version,
+            @NotNull String[] placeholders,
+            @NotNull BiFunction<Player, Object, String>[] resolvers,
+            @NotNull Map<String, Integer> indexes
+    ) {
+
+        private void apply(int index, @NotNull Player player, @NotNull Object context, @NotNull Map<String, String> out) {
+            try {
+                String value = resolvers[index].apply(player, context);
+                if (value != null) {
+                    out.put(placeholders[index], value);
+                }
+            } catch (Exception e) {
+                // Skip failed placeholders
+            }
+        }
+    }
+}
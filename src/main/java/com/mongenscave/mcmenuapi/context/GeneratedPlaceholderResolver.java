@@ -0,0 +1,39 @@
+package com.mongenscave.mcmenuapi.context;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the {@code {context.*}} placeholders of one context class without reflection.
+ * Implementations are generated at compile time for classes annotated with
+ * {@link com.mongenscave.mcmenuapi.annotation.MenuPlaceholder}.
+ *
+ * @param <T> the context type
+ */
+public interface GeneratedPlaceholderResolver<T> {
+
+    /**
+     * Suffix of generated resolver classes ({@code com.example.SellChest} -> {@code com.example.SellChest_MenuPlaceholders})
+     */
+    String CLASS_SUFFIX = "_MenuPlaceholders";
+
+    /**
+     * Gets every placeholder this resolver can produce
+     *
+     * @return the placeholder keys
+     */
+    @NotNull
+    String[] placeholders();
+
+    /**
+     * Writes placeholder values of a context object into a map
+     *
+     * @param context the context object
+     * @param requested the placeholders to resolve, or null for all of them
+     * @param out the map to write the values to
+     */
+    void resolve(@NotNull T context, @Nullable Set<String> requested, @NotNull Map<String, String> out);
+}
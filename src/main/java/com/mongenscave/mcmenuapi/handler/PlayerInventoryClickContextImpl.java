@@ -77,7 +77,7 @@ public class PlayerInventoryClickContextImpl implements PlayerInventoryClickHand
 
     @Override
     public void refreshMenu() {
-        menu.refresh(player);
+        menu.requestRefresh(player);
     }
 
     @Override
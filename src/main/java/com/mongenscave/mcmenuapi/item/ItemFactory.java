@@ -111,14 +111,11 @@ public interface ItemFactory {
             ItemMeta meta = baseItem.getItemMeta();
             if (meta != null) {
                 if (!rawName.isEmpty()) {
-                    meta.setDisplayName(ColorProcessor.process(rawName));
+                    meta.displayName(ColorProcessor.component(rawName));
                 }
 
                 if (!lore.isEmpty()) {
-                    List<String> processedLore = lore.stream()
-                            .map(ColorProcessor::process)
-                            .toList();
-                    meta.setLore(processedLore);
+                    meta.lore(lore.stream().map(ColorProcessor::component).toList());
                 }
 
                 baseItem.setItemMeta(meta);
@@ -170,16 +167,20 @@ public interface ItemFactory {
             amount = Math.max(1, Math.min(amount, 64));
 
             String rawName = section.getString("name", "");
-            String processedName = rawName.isEmpty() ? "" : ColorProcessor.process(rawName);
-
-            List<String> lore = section.getStringList("lore").stream()
-                    .map(ColorProcessor::process)
-                    .toList();
-
-            ItemStack item = ItemFactory.create(material, amount)
-                    .setName(processedName)
-                    .addLore(lore.toArray(new String[0]))
-                    .finish();
+            List<String> lore = section.getStringList("lore");
+
+            // Parsed once into components (MiniMessage or legacy codes), the render templates reuse them
+            ItemStack item = ItemFactory.create(material, amount).finish();
+            if (!rawName.isEmpty() || !lore.isEmpty()) {
+                item.editMeta(meta -> {
+                    if (!rawName.isEmpty()) {
+                        meta.displayName(ColorProcessor.component(rawName));
+                    }
+                    if (!lore.isEmpty()) {
+                        meta.lore(lore.stream().map(ColorProcessor::component).toList());
+                    }
+                });
+            }
 
             List<String> enchantmentStrings = section.getStringList("enchantments");
             for (String enchantmentString : enchantmentStrings) {
@@ -4,6 +4,7 @@ import com.mongenscave.mcmenuapi.McMenuAPI;
 import com.mongenscave.mcmenuapi.action.ActionContext;
 import com.mongenscave.mcmenuapi.action.ContextActionHandler;
 import com.mongenscave.mcmenuapi.action.ContextActionRegistry;
+import com.mongenscave.mcmenuapi.context.ContextPlaceholderRegistry;
 import com.mongenscave.mcmenuapi.context.MenuContext;
 import com.mongenscave.mcmenuapi.handler.DynamicItemClickHandler;
 import com.mongenscave.mcmenuapi.handler.PlayerInventoryClickContextImpl;
@@ -17,6 +18,7 @@ import com.mongenscave.mcmenuapi.menu.action.Action;
 import com.mongenscave.mcmenuapi.menu.item.MenuItem;
 import com.mongenscave.mcmenuapi.registry.ActionHandlerRegistry;
 import com.mongenscave.mcmenuapi.registry.DynamicClickRegistry;
+import com.mongenscave.mcmenuapi.registry.PlaceholderRegistry;
 import lombok.RequiredArgsConstructor;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -24,6 +26,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
@@ -52,6 +55,12 @@ public class MenuListener implements Listener {
             return;
         }
 
+        // Clicks keep the viewer active for adaptive refresh
+        menuAPI.getRefreshManager().onActivity(player.getUniqueId());
+
+        // Render state changed by earlier clicks this tick before resolving this one
+        menuAPI.getRefreshCoalescer().flush(player.getUniqueId());
+
         int rawSlot = event.getRawSlot();
         int topSize = menu.getSize();
 
@@ -211,6 +220,13 @@ public class MenuListener implements Listener {
         }
     }
 
+    @EventHandler
+    public void onPlayerQuit(@NotNull PlayerQuitEvent event) {
+        // Cached and asynchronous placeholder values are kept per player
+        PlaceholderRegistry.clearPlayer(event.getPlayer().getUniqueId());
+        ContextPlaceholderRegistry.clearPlayer(event.getPlayer().getUniqueId());
+    }
+
     /**
      * Finds the MenuItem at a specific slot
      */
@@ -1,5 +1,6 @@
 package com.mongenscave.mcmenuapi.loader;
 
+import com.mongenscave.mcmenuapi.McMenuAPI;
 import com.mongenscave.mcmenuapi.item.ItemFactory;
 import com.mongenscave.mcmenuapi.menu.SimpleMenu;
 import com.mongenscave.mcmenuapi.menu.action.Action;
@@ -7,9 +8,11 @@ import com.mongenscave.mcmenuapi.menu.action.ConditionalAction;
 import com.mongenscave.mcmenuapi.menu.item.MenuItem;
 import com.mongenscave.mcmenuapi.parser.ConditionParser;
 import com.mongenscave.mcmenuapi.refresh.RefreshConfig;
+import com.mongenscave.mcmenuapi.refresh.RefreshGroup;
 import dev.dejvokep.boostedyaml.YamlDocument;
 import dev.dejvokep.boostedyaml.block.implementation.Section;
 import lombok.experimental.UtilityClass;
+import org.bukkit.Bukkit;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -45,6 +48,7 @@ public class MenuLoader {
 
             // Load items
             Section itemsSection = document.getSection("items");
+            Map<String, List<Integer>> refreshGroupSlots = new HashMap<>();
             if (itemsSection != null) {
                 for (String key : itemsSection.getRoutesAsStrings(false)) {
                     Section itemSection = itemsSection.getSection(key);
@@ -53,6 +57,11 @@ public class MenuLoader {
                     MenuItem menuItem = loadMenuItem(itemSection, key);
                     if (menuItem != null) {
                         menu.setItem(key, menuItem);
+
+                        String refreshGroup = itemSection.getString("refresh", null);
+                        if (refreshGroup != null && !refreshGroup.isEmpty()) {
+                            refreshGroupSlots.computeIfAbsent(refreshGroup, group -> new ArrayList<>()).addAll(menuItem.getSlots());
+                        }
                     }
                 }
             }
@@ -65,7 +74,16 @@ public class MenuLoader {
 
             // ==================== NEW: Load auto-refresh config ====================
             Section refreshSection = document.getSection("auto-refresh");
-            if (refreshSection != null && refreshSection.getBoolean("enabled", false)) {
+            Section refreshGroupsSection = refreshSection != null ? refreshSection.getSection("groups") : null;
+            boolean refreshEnabled = refreshSection != null && refreshSection.getBoolean("enabled", false);
+            if (!refreshEnabled || refreshGroupsSection == null) {
+                refreshGroupSlots.keySet().forEach(group -> warn("Menu " + file.getName() + ": refresh group '" + group
+                        + "' is not declared under an enabled auto-refresh.groups section, its items are not refreshed"));
+            }
+
+            if (refreshEnabled && refreshGroupsSection != null) {
+                menu.setRefreshConfig(loadRefreshGroups(file.getName(), refreshSection, refreshGroupsSection, refreshGroupSlots));
+            } else if (refreshEnabled) {
                 int intervalTicks = refreshSection.getInt("interval", 20);
                 List<Integer> slots = parseSlotsList(refreshSection.get("slots"));
 
@@ -94,12 +112,62 @@ public class MenuLoader {
             boolean contextAware = document.getBoolean("context-aware", false);
             menu.setContextAware(contextAware);
 
+            // Load shared-view flag
+            menu.setShared(document.getBoolean("shared", false));
+
+            // Load async render flag
+            menu.setAsyncRender(document.getBoolean("async-render", false));
+
             return menu;
         } catch (IOException exception) {
             return null;
         }
     }
 
+    /**
+     * Loads named refresh groups; items join a group with {@code refresh: <group>}.
+     * A plain {@code interval} next to {@code groups} becomes the default group refreshing all slots.
+     * Groups without slots are skipped, and items naming an undeclared group are reported.
+     */
+    @NotNull
+    private RefreshConfig loadRefreshGroups(@NotNull String fileName, @NotNull Section refreshSection, @NotNull Section groupsSection,
+                                            @NotNull Map<String, List<Integer>> itemSlots) {
+        List<RefreshGroup> groups = new ArrayList<>();
+
+        if (refreshSection.contains("interval")) {
+            groups.add(RefreshGroup.all(RefreshGroup.DEFAULT, refreshSection.getInt("interval", 20)));
+        }
+
+        for (String name : groupsSection.getRoutesAsStrings(false)) {
+            Section groupSection = groupsSection.getSection(name);
+            if (groupSection == null) continue;
+
+            int intervalTicks = groupSection.getInt("interval", 20);
+            List<Integer> slots = new ArrayList<>(parseSlotsList(groupSection.get("slots")));
+            slots.addAll(itemSlots.getOrDefault(name, Collections.emptyList()));
+
+            if (slots.isEmpty()) {
+                warn("Menu " + fileName + ": refresh group '" + name + "' has no slots and no items, skipping it");
+                continue;
+            }
+
+            groups.add(RefreshGroup.of(name, intervalTicks, slots.stream().distinct().toList()));
+        }
+
+        for (String name : itemSlots.keySet()) {
+            if (groupsSection.getSection(name) == null) {
+                warn("Menu " + fileName + ": refresh group '" + name + "' is not declared under auto-refresh.groups, its items are not refreshed");
+            }
+        }
+
+        return RefreshConfig.groups(groups);
+    }
+
+    private void warn(@NotNull String message) {
+        McMenuAPI api = McMenuAPI.getInstance();
+        (api != null ? api.getPlugin().getLogger() : Bukkit.getLogger()).warning(message);
+    }
+
     @Nullable
     private MenuItem loadMenuItem(@NotNull Section section, @NotNull String itemKey) {
         Optional<ItemStack> itemStackOpt = ItemFactory.buildItem(section);
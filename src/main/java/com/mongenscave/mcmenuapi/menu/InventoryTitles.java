@@ -0,0 +1,41 @@
+package com.mongenscave.mcmenuapi.menu;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Updates the title of an open menu through the player's inventory view, without reopening the inventory
+ */
+final class InventoryTitles {
+
+    private InventoryTitles() {
+    }
+
+    /**
+     * Checks if a player is currently looking at an inventory
+     *
+     * @param player the player
+     * @param inventory the menu inventory
+     * @return true if the inventory is the top inventory of the player's open view
+     */
+    static boolean isViewing(@NotNull Player player, @NotNull Inventory inventory) {
+        return player.getOpenInventory().getTopInventory() == inventory;
+    }
+
+    /**
+     * Sets the title of the player's open view if it shows the inventory and the title changed
+     *
+     * @param player the player
+     * @param inventory the menu inventory
+     * @param title the new title
+     */
+    @SuppressWarnings("deprecation")
+    static void update(@NotNull Player player, @NotNull Inventory inventory, @NotNull String title) {
+        InventoryView view = player.getOpenInventory();
+        if (view.getTopInventory() == inventory && !title.equals(view.getTitle())) {
+            view.setTitle(title);
+        }
+    }
+}
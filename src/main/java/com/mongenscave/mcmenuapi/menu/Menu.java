@@ -1,5 +1,6 @@
 package com.mongenscave.mcmenuapi.menu;
 
+import com.mongenscave.mcmenuapi.McMenuAPI;
 import com.mongenscave.mcmenuapi.menu.item.MenuItem;
 import com.mongenscave.mcmenuapi.refresh.RefreshConfig;
 import org.bukkit.entity.Player;
@@ -49,6 +50,48 @@ public interface Menu {
      */
     void refreshSlots(@NotNull Player player, @NotNull List<Integer> slots);
 
+    /**
+     * Marks the menu for a refresh at the end of the tick.
+     * Repeated requests within a tick (e.g. from one click handler) are merged into one refresh.
+     *
+     * @param player the player to refresh the menu for
+     */
+    default void requestRefresh(@NotNull Player player) {
+        McMenuAPI api = McMenuAPI.getInstance();
+        if (api != null) {
+            api.getRefreshCoalescer().requestRefresh(player, this);
+        } else {
+            refresh(player);
+        }
+    }
+
+    /**
+     * Refreshes the menu immediately, absorbing a refresh already requested for this tick.
+     * Used for changes that alter which item a slot resolves to (e.g. page changes), which must not
+     * wait for the end of the tick while clicks are resolved against the new state.
+     *
+     * @param player the player to refresh the menu for
+     */
+    default void refreshNow(@NotNull Player player) {
+        McMenuAPI api = McMenuAPI.getInstance();
+        if (api != null) {
+            api.getRefreshCoalescer().refreshNow(player, this);
+        } else {
+            refresh(player);
+        }
+    }
+
+    /**
+     * Re-renders the parts of the menu that use a placeholder.
+     * Called on the main thread after an asynchronous placeholder finished loading.
+     *
+     * @param player the player
+     * @param placeholder the placeholder key (e.g., "{kills}")
+     */
+    default void refreshPlaceholder(@NotNull Player player, @NotNull String placeholder) {
+        refresh(player);
+    }
+
     /**
      * Gets the menu title
      *
@@ -5,10 +5,13 @@ import com.mongenscave.mcmenuapi.context.MenuContext;
 import com.mongenscave.mcmenuapi.menu.item.MenuItem;
 import com.mongenscave.mcmenuapi.processor.ColorProcessor;
 import com.mongenscave.mcmenuapi.refresh.RefreshConfig;
+import com.mongenscave.mcmenuapi.template.PlaceholderTemplate;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,6 +31,8 @@ public class PaginatedMenu implements Menu {
     private final List<MenuItem> pageItems;
     private final Map<String, String> globalPlaceholders;
     private final Map<UUID, Inventory> openInventories;
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, ItemStack[]> shownItems;
     private final Map<UUID, Integer> playerPages;
     private final List<Consumer<Player>> closeHandlers;
     private final List<Consumer<Player>> openHandlers;
@@ -39,6 +44,15 @@ public class PaginatedMenu implements Menu {
     private MenuItem previousPageItem;
     private MenuItem nextPageItem;
 
+    @Getter(AccessLevel.NONE)
+    private final PlaceholderTemplate titleTemplate;
+    @Getter(AccessLevel.NONE)
+    private volatile PlaceholderDependencies dependencies;
+    @Getter(AccessLevel.NONE)
+    private volatile RenderPlan staticPlan;
+    @Getter(AccessLevel.NONE)
+    private final RenderCache renderCache;
+
     // New fields for enhanced features
     private RefreshConfig refreshConfig;
     private boolean playerInventoryInteractionEnabled;
@@ -47,6 +61,7 @@ public class PaginatedMenu implements Menu {
 
     public PaginatedMenu(@NotNull String title, int size, @NotNull int[] pageSlots) {
         this.title = ColorProcessor.process(title);
+        this.titleTemplate = PlaceholderTemplate.compile(this.title);
         this.size = size;
         this.pageSlots = pageSlots;
         this.itemsPerPage = pageSlots.length;
@@ -54,10 +69,12 @@ public class PaginatedMenu implements Menu {
         this.pageItems = Collections.synchronizedList(new ArrayList<>());
         this.globalPlaceholders = new ConcurrentHashMap<>();
         this.openInventories = new ConcurrentHashMap<>();
+        this.shownItems = new ConcurrentHashMap<>();
         this.playerPages = new ConcurrentHashMap<>();
         this.closeHandlers = Collections.synchronizedList(new ArrayList<>());
         this.openHandlers = Collections.synchronizedList(new ArrayList<>());
         this.refreshHandlers = Collections.synchronizedList(new ArrayList<>());
+        this.renderCache = new RenderCache(RenderCache.DEFAULT_CAPACITY);
 
         // Initialize new fields
         this.refreshConfig = RefreshConfig.DISABLED;
@@ -81,21 +98,44 @@ public class PaginatedMenu implements Menu {
     private Inventory createInventory(@NotNull Player player, int page) {
         Map<String, String> allPlaceholders = buildPlaceholders(player);
 
-        String processedTitle = applyPlaceholders(title, allPlaceholders);
+        String processedTitle = titleTemplate.fill(allPlaceholders);
 
         Inventory inventory = Bukkit.createInventory(null, size, processedTitle);
+        ItemStack[] rendered = renderContents(player, page, allPlaceholders, null);
+        for (int slot = 0; slot < size; slot++) {
+            if (rendered[slot] != null) {
+                inventory.setItem(slot, rendered[slot]);
+            }
+        }
+        shownItems.put(player.getUniqueId(), rendered);
+
+        return inventory;
+    }
+
+    /**
+     * Renders static, page and navigation items; slots the page leaves empty stay null
+     *
+     * @param only the slots to render, or null for all slots
+     * @return the rendered items, indexed by slot
+     */
+    @NotNull
+    private ItemStack[] renderContents(@NotNull Player player, int page,
+                                       @NotNull Map<String, String> allPlaceholders, @Nullable Set<Integer> only) {
+        ItemStack[] contents = new ItemStack[size];
 
         // Place static items
-        staticItems.values().stream()
-                .sorted(Comparator.comparingInt(MenuItem::getPriority))
-                .forEach(menuItem -> {
-                    MenuItem replaced = menuItem.withReplacedPlaceholders(player, allPlaceholders);
-                    for (int slot : replaced.getSlots()) {
-                        if (slot >= 0 && slot < size) {
-                            inventory.setItem(slot, replaced.getItemStack().clone());
-                        }
+        RenderPlan plan = getStaticPlan();
+        for (int i = 0; i < plan.getItemCount(); i++) {
+            ItemStack rendered = null;
+            for (int slot : plan.getSlotsAt(i)) {
+                if (only == null || only.contains(slot)) {
+                    if (rendered == null) {
+                        rendered = renderCache.render(plan.getItemAt(i), player, allPlaceholders);
                     }
-                });
+                    contents[slot] = rendered;
+                }
+            }
+        }
 
         // Place paginated items
         int start = page * itemsPerPage;
@@ -103,30 +143,36 @@ public class PaginatedMenu implements Menu {
 
         for (int i = start; i < end; i++) {
             MenuItem menuItem = pageItems.get(i);
-            MenuItem replaced = menuItem.withReplacedPlaceholders(player, allPlaceholders);
             int slotIndex = i - start;
 
-            if (slotIndex < pageSlots.length) {
-                inventory.setItem(pageSlots[slotIndex], replaced.getItemStack().clone());
+            if (slotIndex < pageSlots.length && (only == null || only.contains(pageSlots[slotIndex]))) {
+                contents[pageSlots[slotIndex]] = renderCache.render(menuItem, player, allPlaceholders);
             }
         }
 
         // Place navigation items
         if (previousPageItem != null && page > 0) {
-            MenuItem replaced = previousPageItem.withReplacedPlaceholders(player, allPlaceholders);
-            for (int slot : replaced.getSlots()) {
-                inventory.setItem(slot, replaced.getItemStack().clone());
-            }
+            placeItem(contents, previousPageItem, player, allPlaceholders, only);
         }
 
         if (nextPageItem != null && (page + 1) < getTotalPages()) {
-            MenuItem replaced = nextPageItem.withReplacedPlaceholders(player, allPlaceholders);
-            for (int slot : replaced.getSlots()) {
-                inventory.setItem(slot, replaced.getItemStack().clone());
-            }
+            placeItem(contents, nextPageItem, player, allPlaceholders, only);
         }
 
-        return inventory;
+        return contents;
+    }
+
+    private void placeItem(@NotNull ItemStack[] contents, @NotNull MenuItem menuItem, @NotNull Player player,
+                           @NotNull Map<String, String> allPlaceholders, @Nullable Set<Integer> only) {
+        ItemStack rendered = null;
+        for (int slot : menuItem.getSlots()) {
+            if (slot >= 0 && slot < size && (only == null || only.contains(slot))) {
+                if (rendered == null) {
+                    rendered = renderCache.render(menuItem, player, allPlaceholders);
+                }
+                contents[slot] = rendered;
+            }
+        }
     }
 
     /**
@@ -137,8 +183,9 @@ public class PaginatedMenu implements Menu {
         Map<String, String> allPlaceholders = new HashMap<>(globalPlaceholders);
 
         // Add context placeholders
-        if (MenuContext.has(player)) {
-            Map<String, String> contextPlaceholders = ContextPlaceholderRegistry.resolveAll(player);
+        Set<String> required = getRequiredPlaceholders();
+        if (!required.isEmpty() && MenuContext.has(player)) {
+            Map<String, String> contextPlaceholders = ContextPlaceholderRegistry.resolveAll(player, required);
             allPlaceholders.putAll(contextPlaceholders);
         }
 
@@ -151,41 +198,150 @@ public class PaginatedMenu implements Menu {
     }
 
     /**
-     * Applies placeholders to a string
+     * Gets every placeholder key referenced by the title, static items, page items and navigation items.
+     * Recomputed lazily after the items change.
+     *
+     * @return the referenced placeholder keys
+     */
+    @NotNull
+    public Set<String> getRequiredPlaceholders() {
+        return getDependencies().getKeys();
+    }
+
+    /**
+     * Gets the slots whose items use a placeholder (page items count for every page slot)
+     *
+     * @param placeholder the placeholder key
+     * @return the dependent slots, in ascending order
+     */
+    @NotNull
+    public List<Integer> getDependentSlots(@NotNull String placeholder) {
+        return getDependencies().getSlots(placeholder);
+    }
+
+    /**
+     * Gets the render plan of the static items, rebuilt lazily after they change
      */
     @NotNull
-    private String applyPlaceholders(@NotNull String text, @NotNull Map<String, String> placeholders) {
-        String result = text;
-        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-            result = result.replace(entry.getKey(), entry.getValue());
+    private RenderPlan getStaticPlan() {
+        RenderPlan current = staticPlan;
+        if (current == null) {
+            current = RenderPlan.build(staticItems.values(), size);
+            staticPlan = current;
         }
-        return result;
+        return current;
+    }
+
+    @NotNull
+    private PlaceholderDependencies getDependencies() {
+        PlaceholderDependencies current = dependencies;
+        if (current == null) {
+            PlaceholderDependencies.Builder builder = new PlaceholderDependencies.Builder(title);
+            staticItems.values().forEach(builder::item);
+
+            List<Integer> allPageSlots = Arrays.stream(pageSlots).boxed().toList();
+            synchronized (pageItems) {
+                pageItems.forEach(item -> builder.item(item, allPageSlots));
+            }
+            if (previousPageItem != null) builder.item(previousPageItem);
+            if (nextPageItem != null) builder.item(nextPageItem);
+
+            current = builder.build();
+            dependencies = current;
+        }
+        return current;
     }
 
     @Override
     public void close(@NotNull Player player) {
         openInventories.remove(player.getUniqueId());
+        shownItems.remove(player.getUniqueId());
         playerPages.remove(player.getUniqueId());
         player.closeInventory();
 
         closeHandlers.forEach(handler -> handler.accept(player));
     }
 
+    /**
+     * Re-renders the title and contents in place, writing only the slots whose item changed since they were last shown;
+     * the inventory is only reopened if the player is no longer viewing it
+     */
     @Override
     public void refresh(@NotNull Player player) {
         int page = playerPages.getOrDefault(player.getUniqueId(), 0);
-        Inventory newInventory = createInventory(player, page);
+        Inventory inventory = openInventories.get(player.getUniqueId());
+
+        if (inventory == null || !InventoryTitles.isViewing(player, inventory)) {
+            Inventory newInventory = createInventory(player, page);
+
+            openInventories.put(player.getUniqueId(), newInventory);
+            player.openInventory(newInventory);
+        } else {
+            Map<String, String> allPlaceholders = buildPlaceholders(player);
+            if (!titleTemplate.isStatic()) {
+                InventoryTitles.update(player, inventory, titleTemplate.fill(allPlaceholders));
+            }
+
+            ItemStack[] rendered = renderContents(player, page, allPlaceholders, null);
+            ItemStack[] shown = shownItems.get(player.getUniqueId());
 
-        openInventories.put(player.getUniqueId(), newInventory);
-        player.openInventory(newInventory);
+            // Slots the new page leaves empty render as null and are cleared here
+            for (int slot = 0; slot < size; slot++) {
+                if (shown == null || !isSameItem(shown[slot], rendered[slot])) {
+                    inventory.setItem(slot, rendered[slot]);
+                }
+            }
+            shownItems.put(player.getUniqueId(), rendered);
+        }
 
         refreshHandlers.forEach(handler -> handler.accept(player));
     }
 
     @Override
     public void refreshSlots(@NotNull Player player, @NotNull List<Integer> slots) {
-        // For paginated menu, just do a full refresh (items might have moved)
-        refresh(player);
+        Inventory inventory = openInventories.get(player.getUniqueId());
+        if (inventory == null) {
+            return;
+        }
+
+        Set<Integer> only = new HashSet<>(slots);
+        Map<String, String> allPlaceholders = buildPlaceholders(player);
+        int page = playerPages.getOrDefault(player.getUniqueId(), 0);
+
+        ItemStack[] rendered = renderContents(player, page, allPlaceholders, only);
+        ItemStack[] shown = shownItems.computeIfAbsent(player.getUniqueId(), uuid -> new ItemStack[size]);
+
+        // Slots the page leaves empty render as null, so they are only cleared if they showed an item
+        for (int slot : only) {
+            if (slot >= 0 && slot < size && !isSameItem(shown[slot], rendered[slot])) {
+                inventory.setItem(slot, rendered[slot]);
+                shown[slot] = rendered[slot];
+            }
+        }
+
+        refreshHandlers.forEach(handler -> handler.accept(player));
+    }
+
+    @Override
+    public void refreshPlaceholder(@NotNull Player player, @NotNull String placeholder) {
+        if (!openInventories.containsKey(player.getUniqueId())) {
+            return;
+        }
+
+        PlaceholderDependencies current = getDependencies();
+        if (current.isTitleDependent(placeholder)) {
+            refresh(player);
+            return;
+        }
+
+        List<Integer> slots = current.getSlots(placeholder);
+        if (!slots.isEmpty()) {
+            refreshSlots(player, slots);
+        }
+    }
+
+    private static boolean isSameItem(@Nullable ItemStack shown, @Nullable ItemStack rendered) {
+        return shown == rendered || (shown != null && shown.equals(rendered));
     }
 
     @Override
@@ -211,12 +367,18 @@ public class PaginatedMenu implements Menu {
     @Override
     public @NotNull Menu setItem(@NotNull String key, @NotNull MenuItem item) {
         staticItems.put(key, item);
+        dependencies = null;
+        renderCache.clear();
+        staticPlan = null;
         return this;
     }
 
     @Override
     public @NotNull Menu removeItem(@NotNull String key) {
         staticItems.remove(key);
+        dependencies = null;
+        renderCache.clear();
+        staticPlan = null;
         return this;
     }
 
@@ -245,7 +407,7 @@ public class PaginatedMenu implements Menu {
     public void setPage(@NotNull Player player, int page) {
         if (page >= 0 && page < getTotalPages()) {
             playerPages.put(player.getUniqueId(), page);
-            refresh(player);
+            refreshNow(player);
         }
     }
 
@@ -328,6 +490,8 @@ public class PaginatedMenu implements Menu {
      */
     public PaginatedMenu addPageItem(@NotNull MenuItem item) {
         pageItems.add(item);
+        dependencies = null;
+        renderCache.clear();
         return this;
     }
 
@@ -336,6 +500,8 @@ public class PaginatedMenu implements Menu {
      */
     public PaginatedMenu addPageItems(@NotNull List<MenuItem> items) {
         pageItems.addAll(items);
+        dependencies = null;
+        renderCache.clear();
         return this;
     }
 
@@ -344,6 +510,8 @@ public class PaginatedMenu implements Menu {
      */
     public PaginatedMenu clearPageItems() {
         pageItems.clear();
+        dependencies = null;
+        renderCache.clear();
         return this;
     }
 
@@ -352,6 +520,8 @@ public class PaginatedMenu implements Menu {
      */
     public PaginatedMenu setPreviousPageItem(@NotNull MenuItem item) {
         this.previousPageItem = item;
+        dependencies = null;
+        renderCache.clear();
         return this;
     }
 
@@ -360,6 +530,8 @@ public class PaginatedMenu implements Menu {
      */
     public PaginatedMenu setNextPageItem(@NotNull MenuItem item) {
         this.nextPageItem = item;
+        dependencies = null;
+        renderCache.clear();
         return this;
     }
 
@@ -368,10 +540,7 @@ public class PaginatedMenu implements Menu {
      */
     @Nullable
     public MenuItem getItemAtSlot(int slot, @NotNull Player player) {
-        MenuItem staticItem = staticItems.values().stream()
-                .filter(item -> item.getSlots().contains(slot))
-                .findFirst()
-                .orElse(null);
+        MenuItem staticItem = getStaticPlan().getItem(slot);
 
         if (staticItem != null) {
             return staticItem;
@@ -0,0 +1,90 @@
+package com.mongenscave.mcmenuapi.menu;
+
+import com.mongenscave.mcmenuapi.menu.item.MenuItem;
+import com.mongenscave.mcmenuapi.template.PlaceholderTemplate;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Which parts of a menu depend on which placeholder keys.
+ * Built once after the items change, so a changed placeholder only re-renders the slots that show it.
+ */
+final class PlaceholderDependencies {
+
+    private final Set<String> keys;
+    private final Set<String> titleKeys;
+    private final Map<String, List<Integer>> slotsByKey;
+
+    private PlaceholderDependencies(@NotNull Set<String> keys, @NotNull Set<String> titleKeys, @NotNull Map<String, List<Integer>> slotsByKey) {
+        this.keys = keys;
+        this.titleKeys = titleKeys;
+        this.slotsByKey = slotsByKey;
+    }
+
+    /**
+     * Gets every placeholder key used by the title or any slot
+     */
+    @NotNull
+    Set<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Checks if the title uses a placeholder
+     */
+    boolean isTitleDependent(@NotNull String placeholder) {
+        return titleKeys.contains(placeholder);
+    }
+
+    /**
+     * Gets the slots whose items use a placeholder
+     */
+    @NotNull
+    List<Integer> getSlots(@NotNull String placeholder) {
+        return slotsByKey.getOrDefault(placeholder, Collections.emptyList());
+    }
+
+    static final class Builder {
+        private final Set<String> keys = new HashSet<>();
+        private final Set<String> titleKeys = new HashSet<>();
+        private final Map<String, Set<Integer>> slotsByKey = new HashMap<>();
+
+        Builder(@NotNull String title) {
+            PlaceholderTemplate.collectKeys(title, titleKeys);
+            keys.addAll(titleKeys);
+        }
+
+        /**
+         * Adds an item shown in the given slots
+         */
+        @NotNull
+        Builder item(@NotNull MenuItem item, @NotNull Collection<Integer> slots) {
+            for (String key : item.getPlaceholderKeys()) {
+                keys.add(key);
+                slotsByKey.computeIfAbsent(key, k -> new TreeSet<>()).addAll(slots);
+            }
+            return this;
+        }
+
+        /**
+         * Adds an item shown in its own slots
+         */
+        @NotNull
+        Builder item(@NotNull MenuItem item) {
+            return item(item, item.getSlots());
+        }
+
+        @NotNull
+        PlaceholderDependencies build() {
+            Map<String, List<Integer>> slots = new HashMap<>();
+            slotsByKey.forEach((key, value) -> slots.put(key, List.copyOf(value)));
+
+            return new PlaceholderDependencies(
+                    Collections.unmodifiableSet(keys),
+                    Collections.unmodifiableSet(titleKeys),
+                    slots
+            );
+        }
+    }
+}
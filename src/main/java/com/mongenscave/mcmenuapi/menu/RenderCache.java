@@ -0,0 +1,98 @@
+package com.mongenscave.mcmenuapi.menu;
+
+import com.mongenscave.mcmenuapi.menu.item.MenuItem;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of rendered items, keyed by item identity and the placeholder values the item uses.
+ * Viewers that resolve the same values share one rendered item stack instead of filling the template
+ * and building the meta again. Cached stacks are shared and must not be modified.
+ */
+final class RenderCache {
+
+    /**
+     * Default number of rendered items kept per menu
+     */
+    static final int DEFAULT_CAPACITY = 256;
+
+    private final Map<Key, ItemStack> rendered;
+
+    RenderCache(int capacity) {
+        this.rendered = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, ItemStack> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Renders an item for a player, reusing the item stack of an earlier render with the same values
+     *
+     * @param item the item
+     * @param player the player to evaluate dynamic placeholders for
+     * @param placeholders the resolved placeholders
+     * @return the rendered item (do not modify)
+     */
+    @NotNull
+    ItemStack render(@NotNull MenuItem item, @NotNull Player player, @NotNull Map<String, String> placeholders) {
+        if (item.isStatic()) {
+            return item.render(player, placeholders);
+        }
+
+        String[] values = item.resolveValues(player, placeholders);
+        Key key = new Key(item, values);
+
+        synchronized (rendered) {
+            ItemStack cached = rendered.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        ItemStack stack = item.render(values);
+        synchronized (rendered) {
+            rendered.put(key, stack);
+        }
+        return stack;
+    }
+
+    /**
+     * Drops every cached render, called when the menu's items change
+     */
+    void clear() {
+        synchronized (rendered) {
+            rendered.clear();
+        }
+    }
+
+    private static final class Key {
+        private final MenuItem item;
+        private final String[] values;
+        private final int hash;
+
+        private Key(@NotNull MenuItem item, @NotNull String[] values) {
+            this.item = item;
+            this.values = values;
+            this.hash = 31 * System.identityHashCode(item) + Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return item == other.item && hash == other.hash && Arrays.equals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
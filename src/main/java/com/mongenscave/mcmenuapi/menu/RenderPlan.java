@@ -0,0 +1,96 @@
+package com.mongenscave.mcmenuapi.menu;
+
+import com.mongenscave.mcmenuapi.menu.item.MenuItem;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Which item is shown in each slot, resolved once when the items change.
+ * The highest priority item wins a slot; items that do not win any slot are never rendered.
+ */
+final class RenderPlan {
+
+    private final MenuItem[] slotItems;
+    private final MenuItem[] items;
+    private final int[][] itemSlots;
+
+    private RenderPlan(@NotNull MenuItem[] slotItems, @NotNull MenuItem[] items, @NotNull int[][] itemSlots) {
+        this.slotItems = slotItems;
+        this.items = items;
+        this.itemSlots = itemSlots;
+    }
+
+    /**
+     * Resolves the winning item of every slot
+     *
+     * @param menuItems the menu items
+     * @param size the inventory size
+     * @return the plan
+     */
+    @NotNull
+    static RenderPlan build(@NotNull Collection<MenuItem> menuItems, int size) {
+        MenuItem[] slotItems = new MenuItem[size];
+
+        menuItems.stream()
+                .sorted(Comparator.comparingInt(MenuItem::getPriority))
+                .forEach(menuItem -> {
+                    for (int slot : menuItem.getSlots()) {
+                        if (slot >= 0 && slot < size) {
+                            slotItems[slot] = menuItem;
+                        }
+                    }
+                });
+
+        Map<MenuItem, List<Integer>> winners = new LinkedHashMap<>();
+        for (int slot = 0; slot < size; slot++) {
+            if (slotItems[slot] != null) {
+                winners.computeIfAbsent(slotItems[slot], item -> new ArrayList<>()).add(slot);
+            }
+        }
+
+        MenuItem[] items = new MenuItem[winners.size()];
+        int[][] itemSlots = new int[winners.size()][];
+
+        int i = 0;
+        for (Map.Entry<MenuItem, List<Integer>> entry : winners.entrySet()) {
+            items[i] = entry.getKey();
+            itemSlots[i] = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+            i++;
+        }
+
+        return new RenderPlan(slotItems, items, itemSlots);
+    }
+
+    /**
+     * Gets the item shown in a slot
+     */
+    @Nullable
+    MenuItem getItem(int slot) {
+        return slot >= 0 && slot < slotItems.length ? slotItems[slot] : null;
+    }
+
+    /**
+     * Gets the number of distinct items that are shown
+     */
+    int getItemCount() {
+        return items.length;
+    }
+
+    /**
+     * Gets a shown item by index
+     */
+    @NotNull
+    MenuItem getItemAt(int index) {
+        return items[index];
+    }
+
+    /**
+     * Gets the slots an item wins, in ascending order
+     */
+    @NotNull
+    int[] getSlotsAt(int index) {
+        return itemSlots[index];
+    }
+}
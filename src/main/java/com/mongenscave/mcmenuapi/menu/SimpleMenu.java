@@ -1,5 +1,6 @@
 package com.mongenscave.mcmenuapi.menu;
 
+import com.mongenscave.mcmenuapi.McMenuAPI;
 import com.mongenscave.mcmenuapi.builder.BuildContextImpl;
 import com.mongenscave.mcmenuapi.builder.DynamicMenuBuilder;
 import com.mongenscave.mcmenuapi.context.AutoPlaceholderRegistry;
@@ -8,36 +9,81 @@ import com.mongenscave.mcmenuapi.context.MenuContext;
 import com.mongenscave.mcmenuapi.menu.item.MenuItem;
 import com.mongenscave.mcmenuapi.processor.ColorProcessor;
 import com.mongenscave.mcmenuapi.refresh.RefreshConfig;
+import com.mongenscave.mcmenuapi.refresh.RenderPipeline;
+import com.mongenscave.mcmenuapi.registry.AsyncPlaceholder;
 import com.mongenscave.mcmenuapi.registry.DynamicClickRegistry;
 import com.mongenscave.mcmenuapi.registry.DynamicMenuRegistry;
 import com.mongenscave.mcmenuapi.registry.PlaceholderRegistry;
+import com.mongenscave.mcmenuapi.template.PlaceholderTemplate;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.bukkit.Bukkit;
+import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 @Getter
 public class SimpleMenu implements Menu {
+
+    /**
+     * Key of the shared inventory's snapshot in {@link #shownItems}
+     */
+    private static final UUID SHARED_VIEWER = new UUID(0L, 0L);
+
+    /**
+     * Source of render generations, unique across all menus and players
+     */
+    private static final AtomicLong RENDER_GENERATION = new AtomicLong();
+
     private final String title;
     private final int size;
     private final Map<String, MenuItem> items;
     private final Map<String, String> globalPlaceholders;
     private final Map<UUID, Inventory> openInventories;
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, ItemStack[]> shownItems;
     private final Map<UUID, Integer> playerPages;
     private final List<Consumer<Player>> closeHandlers;
     private final List<Consumer<Player>> openHandlers;
     private final List<Consumer<Player>> refreshHandlers;
     private List<Integer> placeableSlots;
 
+    @Getter(AccessLevel.NONE)
+    private final PlaceholderTemplate titleTemplate;
+    @Getter(AccessLevel.NONE)
+    private volatile PlaceholderDependencies dependencies;
+    @Getter(AccessLevel.NONE)
+    private volatile RenderPlan renderPlan;
+    @Getter(AccessLevel.NONE)
+    private final RenderCache renderCache;
+
     private boolean paginated;
     private int totalPages;
 
+    /**
+     * Whether all viewers share one inventory (contents must not depend on the viewer)
+     */
+    private boolean shared;
+
+    /**
+     * Whether renders are prepared on the render pipeline's worker pool
+     */
+    private boolean asyncRender;
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, Long> renderGenerations;
+    @Getter(AccessLevel.NONE)
+    private volatile Inventory sharedInventory;
+    @Getter(AccessLevel.NONE)
+    private volatile String sharedTitle;
+
     // New fields for enhanced features
     private RefreshConfig refreshConfig;
     private boolean playerInventoryInteractionEnabled;
@@ -46,10 +92,13 @@ public class SimpleMenu implements Menu {
 
     public SimpleMenu(@NotNull String title, int size) {
         this.title = ColorProcessor.process(title);
+        this.titleTemplate = PlaceholderTemplate.compile(this.title);
         this.size = size;
         this.items = new ConcurrentHashMap<>();
         this.globalPlaceholders = new ConcurrentHashMap<>();
         this.openInventories = new ConcurrentHashMap<>();
+        this.shownItems = new ConcurrentHashMap<>();
+        this.renderCache = new RenderCache(RenderCache.DEFAULT_CAPACITY);
         this.playerPages = new ConcurrentHashMap<>();
         this.closeHandlers = Collections.synchronizedList(new ArrayList<>());
         this.openHandlers = Collections.synchronizedList(new ArrayList<>());
@@ -57,6 +106,9 @@ public class SimpleMenu implements Menu {
         this.placeableSlots = new ArrayList<>();
         this.paginated = false;
         this.totalPages = 1;
+        this.shared = false;
+        this.asyncRender = false;
+        this.renderGenerations = new ConcurrentHashMap<>();
 
         // Initialize new fields
         this.refreshConfig = RefreshConfig.DISABLED;
@@ -73,15 +125,29 @@ public class SimpleMenu implements Menu {
         return placeableSlots.contains(slot);
     }
 
+    /**
+     * Opens the menu, always rendering on the calling thread (even with async rendering enabled),
+     * so the inventory is in place and its clicks are guarded as soon as the menu is registered as open
+     */
     @Override
     public void open(@NotNull Player player) {
+        if (shared) {
+            openShared(player, null);
+            return;
+        }
+
         Map<String, String> allPlaceholders = buildPlaceholders(player);
 
-        String processedTitle = applyPlaceholders(title, allPlaceholders);
+        String processedTitle = titleTemplate.fill(allPlaceholders);
 
         Inventory inventory = Bukkit.createInventory(null, size, ColorProcessor.process(processedTitle));
 
-        populateInventory(inventory, player, allPlaceholders);
+        nextRenderGeneration(player);
+        commitOpen(player, inventory, renderContents(player, allPlaceholders, null));
+    }
+
+    private void commitOpen(@NotNull Player player, @NotNull Inventory inventory, @NotNull ItemStack[] rendered) {
+        writeContents(inventory, player, rendered);
 
         openInventories.put(player.getUniqueId(), inventory);
         player.openInventory(inventory);
@@ -92,71 +158,264 @@ public class SimpleMenu implements Menu {
     @Override
     public void close(@NotNull Player player) {
         openInventories.remove(player.getUniqueId());
+        shownItems.remove(player.getUniqueId());
+        renderGenerations.remove(player.getUniqueId());
         playerPages.remove(player.getUniqueId());
         player.closeInventory();
 
         closeHandlers.forEach(handler -> handler.accept(player));
     }
 
+    /**
+     * Re-renders the menu and writes only the slots whose item changed since they were last shown
+     */
     @Override
     public void refresh(@NotNull Player player) {
-        if (openInventories.containsKey(player.getUniqueId())) {
-            Inventory inventory = openInventories.get(player.getUniqueId());
-            inventory.clear();
+        Inventory inventory = openInventories.get(player.getUniqueId());
+        if (inventory == null) {
+            return;
+        }
 
-            Map<String, String> allPlaceholders = buildPlaceholders(player);
+        if (shared) {
+            refreshShared(player, null);
+            refreshHandlers.forEach(handler -> handler.accept(player));
+            return;
+        }
 
-            populateInventory(inventory, player, allPlaceholders);
+        RenderPipeline pipeline = getRenderPipeline();
+        if (pipeline != null) {
+            long generation = nextRenderGeneration(player);
+            pipeline.submit(() -> {
+                Map<String, String> allPlaceholders = buildPlaceholders(player);
+                String processedTitle = titleTemplate.isStatic() ? null : ColorProcessor.process(titleTemplate.fill(allPlaceholders));
+                ItemStack[] rendered = renderContents(player, allPlaceholders, null);
+
+                return () -> {
+                    if (isLatestRender(player, generation) && isCurrentView(player, inventory)) {
+                        commitRefresh(player, inventory, processedTitle, rendered);
+                    }
+                };
+            });
+            return;
+        }
 
-            refreshHandlers.forEach(handler -> handler.accept(player));
+        nextRenderGeneration(player);
+        Map<String, String> allPlaceholders = buildPlaceholders(player);
+        String processedTitle = titleTemplate.isStatic() ? null : ColorProcessor.process(titleTemplate.fill(allPlaceholders));
+
+        commitRefresh(player, inventory, processedTitle, renderContents(player, allPlaceholders, null));
+    }
+
+    /**
+     * Applies a rendered refresh, writing only the slots that changed since they were last shown
+     *
+     * @param processedTitle the new title, or null if the title has no placeholders
+     */
+    private void commitRefresh(@NotNull Player player, @NotNull Inventory inventory, @Nullable String processedTitle, @NotNull ItemStack[] rendered) {
+        if (processedTitle != null) {
+            InventoryTitles.update(player, inventory, processedTitle);
         }
+
+        ItemStack[] shown = shownItems.get(player.getUniqueId());
+
+        for (int slot = 0; slot < size; slot++) {
+            if (shown == null || !isSameItem(shown[slot], rendered[slot])) {
+                inventory.setItem(slot, rendered[slot]);
+            }
+        }
+        shownItems.put(player.getUniqueId(), rendered);
+
+        refreshHandlers.forEach(handler -> handler.accept(player));
     }
 
     @Override
     public void refreshSlots(@NotNull Player player, @NotNull List<Integer> slots) {
-        if (openInventories.containsKey(player.getUniqueId())) {
-            Inventory inventory = openInventories.get(player.getUniqueId());
+        Inventory inventory = openInventories.get(player.getUniqueId());
+        if (inventory == null) {
+            return;
+        }
+
+        Set<Integer> only = new HashSet<>(slots);
+        if (shared) {
+            refreshShared(player, only);
+            refreshHandlers.forEach(handler -> handler.accept(player));
+            return;
+        }
+
+        RenderPipeline pipeline = getRenderPipeline();
+        if (pipeline != null) {
+            long generation = currentRenderGeneration(player);
+            pipeline.submit(() -> {
+                ItemStack[] rendered = renderContents(player, buildPlaceholders(player), only);
+
+                return () -> {
+                    if (isLatestRender(player, generation) && isCurrentView(player, inventory)) {
+                        commitSlots(player, inventory, only, rendered);
+                    }
+                };
+            });
+            return;
+        }
+
+        commitSlots(player, inventory, only, renderContents(player, buildPlaceholders(player), only));
+    }
 
+    /**
+     * Applies rendered slots, writing only the ones that changed since they were last shown
+     */
+    private void commitSlots(@NotNull Player player, @NotNull Inventory inventory, @NotNull Set<Integer> only, @NotNull ItemStack[] rendered) {
+        ItemStack[] shown = shownItems.computeIfAbsent(player.getUniqueId(), uuid -> new ItemStack[size]);
+
+        // Only update items in specified slots
+        for (int slot : only) {
+            if (slot >= 0 && slot < size && !isSameItem(shown[slot], rendered[slot])) {
+                inventory.setItem(slot, rendered[slot]);
+                shown[slot] = rendered[slot];
+            }
+        }
+
+        refreshHandlers.forEach(handler -> handler.accept(player));
+    }
+
+    @Override
+    public void refreshPlaceholder(@NotNull Player player, @NotNull String placeholder) {
+        if (!openInventories.containsKey(player.getUniqueId())) {
+            return;
+        }
+
+        PlaceholderDependencies current = getDependencies();
+        if (current.isTitleDependent(placeholder)) {
+            refresh(player);
+            return;
+        }
+
+        List<Integer> slots = current.getSlots(placeholder);
+        if (!slots.isEmpty()) {
+            refreshSlots(player, slots);
+        }
+    }
+
+    /**
+     * Attaches a player to the shared inventory, creating and rendering it for the first viewer.
+     * Later viewers see the current contents; re-rendering is left to the (deduplicated) refreshes.
+     *
+     * @param onCreate called with the new inventory before it is shown, or null
+     */
+    private void openShared(@NotNull Player player, @Nullable Consumer<Inventory> onCreate) {
+        Inventory inventory = sharedInventory;
+        boolean created = inventory == null;
+        if (created) {
             Map<String, String> allPlaceholders = buildPlaceholders(player);
+            String processedTitle = ColorProcessor.process(titleTemplate.fill(allPlaceholders));
 
-            // Only update items in specified slots
-            items.values().stream()
-                    .sorted(Comparator.comparingInt(MenuItem::getPriority))
-                    .forEach(menuItem -> {
-                        MenuItem replaced = menuItem.withReplacedPlaceholders(player, allPlaceholders);
-                        for (int slot : replaced.getSlots()) {
-                            if (slot >= 0 && slot < size && slots.contains(slot)) {
-                                inventory.setItem(slot, replaced.getItemStack().clone());
-                            }
-                        }
-                    });
+            inventory = Bukkit.createInventory(null, size, processedTitle);
+            populateInventory(inventory, player, allPlaceholders);
+            if (onCreate != null) {
+                onCreate.accept(inventory);
+            }
 
-            refreshHandlers.forEach(handler -> handler.accept(player));
+            sharedInventory = inventory;
+            sharedTitle = processedTitle;
+        }
+
+        // Every viewer maps to the same instance, so the listener's identity check keeps working
+        openInventories.put(player.getUniqueId(), inventory);
+        player.openInventory(inventory);
+
+        // The inventory keeps the title it was created with, later viewers get the current one
+        String currentTitle = sharedTitle;
+        if (!created && currentTitle != null) {
+            InventoryTitles.update(player, inventory, currentTitle);
+        }
+
+        openHandlers.forEach(handler -> handler.accept(player));
+    }
+
+    /**
+     * Re-renders the shared inventory; only slots whose item changed are written.
+     * A full refresh also updates the title for every viewer.
+     * The placeholders are resolved for the requesting player. Auto-refreshes of several viewers
+     * in the same tick are deduplicated by the refresh coalescer, not here.
+     *
+     * @param only the slots to render, or null for all slots and the title
+     */
+    private void refreshShared(@NotNull Player player, @Nullable Set<Integer> only) {
+        Inventory inventory = sharedInventory;
+        if (inventory == null) {
+            return;
+        }
+
+        Map<String, String> allPlaceholders = buildPlaceholders(player);
+        if (only == null && !titleTemplate.isStatic()) {
+            String processedTitle = ColorProcessor.process(titleTemplate.fill(allPlaceholders));
+            sharedTitle = processedTitle;
+
+            for (HumanEntity viewer : List.copyOf(inventory.getViewers())) {
+                if (viewer instanceof Player viewingPlayer) {
+                    InventoryTitles.update(viewingPlayer, inventory, processedTitle);
+                }
+            }
+        }
+
+        Set<Integer> pending = new HashSet<>();
+        for (int slot = 0; slot < size; slot++) {
+            if (only == null || only.contains(slot)) {
+                pending.add(slot);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        ItemStack[] rendered = renderContents(player, allPlaceholders, pending);
+        ItemStack[] shown = shownItems.computeIfAbsent(SHARED_VIEWER, uuid -> new ItemStack[size]);
+
+        for (int slot : pending) {
+            if (!isSameItem(shown[slot], rendered[slot])) {
+                inventory.setItem(slot, rendered[slot]);
+                shown[slot] = rendered[slot];
+            }
         }
     }
 
     /**
-     * Builds the complete placeholder map for a player
-     * NOW WITH AUTO-DETECTION!
+     * Gets the slots whose items use a placeholder
+     *
+     * @param placeholder the placeholder key
+     * @return the dependent slots, in ascending order
+     */
+    @NotNull
+    public List<Integer> getDependentSlots(@NotNull String placeholder) {
+        return getDependencies().getSlots(placeholder);
+    }
+
+    /**
+     * Builds the placeholder map for a player.
+     * Only placeholders referenced by the title and items are resolved.
      */
     @NotNull
     private Map<String, String> buildPlaceholders(@NotNull Player player) {
         Map<String, String> allPlaceholders = new HashMap<>(globalPlaceholders);
 
+        Set<String> required = getRequiredPlaceholders();
+        if (required.isEmpty()) {
+            return allPlaceholders;
+        }
+
         String menuFileName = getMenuFileNameForPlayer(player);
         if (menuFileName != null) {
-            Map<String, String> dynamicPlaceholders = PlaceholderRegistry.resolveAll(player, menuFileName);
+            Map<String, String> dynamicPlaceholders = PlaceholderRegistry.resolveAll(player, menuFileName, required);
             allPlaceholders.putAll(dynamicPlaceholders);
         }
 
         Object context = MenuContext.getRaw(player);
         if (context != null) {
-            Map<String, String> autoPlaceholders = AutoPlaceholderRegistry.resolveAll(player, context);
+            Map<String, String> autoPlaceholders = AutoPlaceholderRegistry.resolveAll(player, context, required);
             allPlaceholders.putAll(autoPlaceholders);
         }
 
         if (MenuContext.has(player)) {
-            Map<String, String> contextPlaceholders = ContextPlaceholderRegistry.resolveAll(player);
+            Map<String, String> contextPlaceholders = ContextPlaceholderRegistry.resolveAll(player, required);
             allPlaceholders.putAll(contextPlaceholders);
         }
 
@@ -164,31 +423,136 @@ public class SimpleMenu implements Menu {
     }
 
     /**
-     * Applies placeholders to a string
+     * Gets every placeholder key referenced by the title, item names, lore and visibility conditions.
+     * Recomputed lazily after the items change.
+     *
+     * @return the referenced placeholder keys
      */
     @NotNull
-    private String applyPlaceholders(@NotNull String text, @NotNull Map<String, String> placeholders) {
-        String result = text;
-        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-            result = result.replace(entry.getKey(), entry.getValue());
+    public Set<String> getRequiredPlaceholders() {
+        return getDependencies().getKeys();
+    }
+
+    @NotNull
+    private PlaceholderDependencies getDependencies() {
+        PlaceholderDependencies current = dependencies;
+        if (current == null) {
+            PlaceholderDependencies.Builder builder = new PlaceholderDependencies.Builder(title);
+            items.values().forEach(builder::item);
+
+            current = builder.build();
+            dependencies = current;
         }
-        return result;
+        return current;
     }
 
     /**
      * Populates the inventory with items
      */
     private void populateInventory(@NotNull Inventory inventory, @NotNull Player player, @NotNull Map<String, String> placeholders) {
-        items.values().stream()
-                .sorted(Comparator.comparingInt(MenuItem::getPriority))
-                .forEach(menuItem -> {
-                    MenuItem replaced = menuItem.withReplacedPlaceholders(player, placeholders);
-                    for (int slot : replaced.getSlots()) {
-                        if (slot >= 0 && slot < size) {
-                            inventory.setItem(slot, replaced.getItemStack().clone());
-                        }
+        writeContents(inventory, player, renderContents(player, placeholders, null));
+    }
+
+    /**
+     * Writes rendered contents into an empty inventory and remembers them as shown
+     */
+    private void writeContents(@NotNull Inventory inventory, @NotNull Player player, @NotNull ItemStack[] rendered) {
+        for (int slot = 0; slot < size; slot++) {
+            if (rendered[slot] != null) {
+                inventory.setItem(slot, rendered[slot]);
+            }
+        }
+        shownItems.put(shared ? SHARED_VIEWER : player.getUniqueId(), rendered);
+    }
+
+    /**
+     * Renders the shown items into a slot array; each item is rendered once for all slots it wins
+     *
+     * @param only the slots to render, or null for all slots
+     */
+    @NotNull
+    private ItemStack[] renderContents(@NotNull Player player, @NotNull Map<String, String> placeholders, @Nullable Set<Integer> only) {
+        ItemStack[] contents = new ItemStack[size];
+        RenderPlan plan = getRenderPlan();
+
+        for (int i = 0; i < plan.getItemCount(); i++) {
+            ItemStack rendered = null;
+            for (int slot : plan.getSlotsAt(i)) {
+                if (only == null || only.contains(slot)) {
+                    if (rendered == null) {
+                        rendered = renderCache.render(plan.getItemAt(i), player, placeholders);
                     }
-                });
+                    contents[slot] = rendered;
+                }
+            }
+        }
+
+        return contents;
+    }
+
+    /**
+     * Gets the render plan, rebuilt lazily after the items change
+     */
+    @NotNull
+    private RenderPlan getRenderPlan() {
+        RenderPlan current = renderPlan;
+        if (current == null) {
+            current = RenderPlan.build(items.values(), size);
+            renderPlan = current;
+        }
+        return current;
+    }
+
+    /**
+     * Gets the pipeline renders are prepared on, or null to render on the calling thread.
+     * Shared menus and renders patching async placeholders always render synchronously.
+     */
+    @Nullable
+    private RenderPipeline getRenderPipeline() {
+        if (!asyncRender || shared || AsyncPlaceholder.isPatching()) {
+            return null;
+        }
+
+        McMenuAPI api = McMenuAPI.getInstance();
+        return api != null ? api.getRenderPipeline() : null;
+    }
+
+    /**
+     * Checks that a prepared render still targets what the player is looking at:
+     * the same inventory of this menu, and no other menu opened through the API since
+     */
+    private boolean isCurrentView(@NotNull Player player, @NotNull Inventory inventory) {
+        if (openInventories.get(player.getUniqueId()) != inventory) {
+            return false;
+        }
+
+        McMenuAPI api = McMenuAPI.getInstance();
+        Menu openMenu = api != null ? api.getOpenMenu(player) : null;
+        return openMenu == null || openMenu == this;
+    }
+
+    /**
+     * Starts a new full render for a player; prepared commits of older renders are dropped
+     */
+    private long nextRenderGeneration(@NotNull Player player) {
+        long generation = RENDER_GENERATION.incrementAndGet();
+        renderGenerations.put(player.getUniqueId(), generation);
+        return generation;
+    }
+
+    /**
+     * Gets the generation of the player's latest full render, slot renders are checked against it
+     */
+    private long currentRenderGeneration(@NotNull Player player) {
+        return renderGenerations.getOrDefault(player.getUniqueId(), 0L);
+    }
+
+    private boolean isLatestRender(@NotNull Player player, long generation) {
+        return currentRenderGeneration(player) == generation;
+    }
+
+    private static boolean isSameItem(@Nullable ItemStack shown, @Nullable ItemStack rendered) {
+        return shown == rendered || (shown != null && shown.equals(rendered));
     }
 
     @Override
@@ -204,12 +568,18 @@ public class SimpleMenu implements Menu {
     @Override
     public @NotNull Menu setItem(@NotNull String key, @NotNull MenuItem item) {
         items.put(key, item);
+        dependencies = null;
+        renderPlan = null;
+        renderCache.clear();
         return this;
     }
 
     @Override
     public @NotNull Menu removeItem(@NotNull String key) {
         items.remove(key);
+        dependencies = null;
+        renderPlan = null;
+        renderCache.clear();
         return this;
     }
 
@@ -238,7 +608,7 @@ public class SimpleMenu implements Menu {
     public void setPage(@NotNull Player player, int page) {
         if (page >= 0 && page < totalPages) {
             playerPages.put(player.getUniqueId(), page);
-            refresh(player);
+            refreshNow(player);
         }
     }
 
@@ -316,6 +686,37 @@ public class SimpleMenu implements Menu {
 
     // ==================== EXISTING METHODS ====================
 
+    /**
+     * Enables or disables shared-view mode. A shared menu holds one inventory that every viewer is attached to
+     * and is rendered once per refresh regardless of the number of viewers, so its title and items must not
+     * depend on the viewer (leaderboards, global event status). Placeholders are resolved for whichever
+     * viewer triggers the render.
+     *
+     * @param shared true to share one inventory between all viewers
+     * @return this menu
+     */
+    public SimpleMenu setShared(boolean shared) {
+        this.shared = shared;
+        this.sharedInventory = null;
+        this.sharedTitle = null;
+        this.shownItems.remove(SHARED_VIEWER);
+        return this;
+    }
+
+    /**
+     * Enables or disables asynchronous rendering. Placeholder maps, templates and item stacks are then built
+     * on the {@link RenderPipeline} worker pool, and only the inventory writes run on the main thread, batched
+     * once per tick. Placeholders used by the menu must be safe to resolve off the main thread.
+     * Opening the menu still renders on the calling thread.
+     *
+     * @param asyncRender true to prepare renders off the main thread
+     * @return this menu
+     */
+    public SimpleMenu setAsyncRender(boolean asyncRender) {
+        this.asyncRender = asyncRender;
+        return this;
+    }
+
     public SimpleMenu setPaginated(int totalPages) {
         this.paginated = true;
         this.totalPages = Math.max(1, totalPages);
@@ -325,12 +726,18 @@ public class SimpleMenu implements Menu {
     public void openWithFileName(@NotNull Player player, @NotNull String fileName) {
         DynamicMenuBuilder builder = DynamicMenuRegistry.getBuilder(fileName);
 
-        if (builder != null) {
+        if (builder != null && shared) {
+            // The builder runs once, when the shared inventory is created
+            openShared(player, inventory -> {
+                DynamicClickRegistry.clearMenu(fileName);
+                builder.build(new BuildContextImpl(player, inventory, fileName));
+            });
+        } else if (builder != null) {
             DynamicClickRegistry.clearMenu(fileName);
 
             Map<String, String> allPlaceholders = buildPlaceholders(player);
 
-            String processedTitle = applyPlaceholders(title, allPlaceholders);
+            String processedTitle = titleTemplate.fill(allPlaceholders);
 
             Inventory inventory = Bukkit.createInventory(null, size, ColorProcessor.process(processedTitle));
 
@@ -348,17 +755,17 @@ public class SimpleMenu implements Menu {
         }
     }
 
+    /**
+     * Gets the item shown in a slot (the highest priority item placed there)
+     */
     @Nullable
     public MenuItem getItemAtSlot(int slot) {
-        return items.values().stream()
-                .filter(item -> item.getSlots().contains(slot))
-                .findFirst()
-                .orElse(null);
+        return getRenderPlan().getItem(slot);
     }
 
     @Nullable
     private String getMenuFileNameForPlayer(@NotNull Player player) {
-        return com.mongenscave.mcmenuapi.McMenuAPI.getInstance()
+        return McMenuAPI.getInstance()
                 .getLoadedMenus()
                 .entrySet()
                 .stream()
@@ -150,6 +150,7 @@ public class SmartPaginatedMenu {
         menu.open(player);
         McMenuAPI.getInstance().registerMenu(config.getString("_file", "menu.yml"), menu);
         McMenuAPI.getInstance().getOpenMenus().put(player.getUniqueId(), menu);
+        McMenuAPI.getInstance().getRefreshManager().onMenuOpen(player.getUniqueId(), menu);
     }
 
     /**
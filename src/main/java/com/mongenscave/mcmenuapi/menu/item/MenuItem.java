@@ -1,6 +1,9 @@
 package com.mongenscave.mcmenuapi.menu.item;
 
 import com.mongenscave.mcmenuapi.menu.action.Action;
+import com.mongenscave.mcmenuapi.template.ItemRenderTemplate;
+import com.mongenscave.mcmenuapi.template.PlaceholderTemplate;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Singular;
@@ -18,7 +21,6 @@ import java.util.function.Predicate;
  * Represents a clickable item in a menu
  */
 @Getter
-@Builder(toBuilder = true)
 public class MenuItem {
 
     /**
@@ -30,28 +32,24 @@ public class MenuItem {
     /**
      * The slots this item occupies
      */
-    @Singular
     @NotNull
     private final List<Integer> slots;
 
     /**
      * Actions to execute when clicked
      */
-    @Singular
     @NotNull
     private final List<Action> actions;
 
     /**
      * Priority for placement (higher = placed later)
      */
-    @Builder.Default
-    private final int priority = 0;
+    private final int priority;
 
     /**
      * Whether this item is clickable
      */
-    @Builder.Default
-    private final boolean clickable = true;
+    private final boolean clickable;
 
     /**
      * Custom click handler that runs alongside actions
@@ -62,14 +60,12 @@ public class MenuItem {
     /**
      * Placeholders specific to this item
      */
-    @Singular("placeholder")
     @NotNull
     private final Map<String, String> placeholders;
 
     /**
      * Dynamic placeholder functions (evaluated at runtime)
      */
-    @Singular("dynamicPlaceholder")
     @NotNull
     private final Map<String, Function<Player, String>> dynamicPlaceholders;
 
@@ -85,6 +81,73 @@ public class MenuItem {
     @Nullable
     private final Predicate<Player> visibilityPredicate;
 
+    /**
+     * Name and lore template, compiled once from the item stack
+     */
+    @Getter(AccessLevel.NONE)
+    private final ItemRenderTemplate renderTemplate;
+
+    /**
+     * Every placeholder key referenced by the name, lore and visibility condition
+     */
+    @NotNull
+    private final Set<String> placeholderKeys;
+
+    /**
+     * Whether the item renders the same for every viewer (no placeholders and no visibility condition)
+     */
+    @Getter(AccessLevel.NONE)
+    private final boolean staticItem;
+
+    /**
+     * Rendered once and shared by every viewer of a static item
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile ItemStack staticSnapshot;
+
+    @Builder(toBuilder = true)
+    private MenuItem(
+            @NotNull ItemStack itemStack,
+            @Singular @NotNull List<Integer> slots,
+            @Singular @NotNull List<Action> actions,
+            int priority,
+            boolean clickable,
+            @Nullable BiConsumer<Player, MenuItem> customClickHandler,
+            @Singular("placeholder") @NotNull Map<String, String> placeholders,
+            @Singular("dynamicPlaceholder") @NotNull Map<String, Function<Player, String>> dynamicPlaceholders,
+            @Nullable String visibilityCondition,
+            @Nullable Predicate<Player> visibilityPredicate
+    ) {
+        this.itemStack = itemStack;
+        this.slots = slots;
+        this.actions = actions;
+        this.priority = priority;
+        this.clickable = clickable;
+        this.customClickHandler = customClickHandler;
+        this.placeholders = placeholders;
+        this.dynamicPlaceholders = dynamicPlaceholders;
+        this.visibilityCondition = visibilityCondition;
+        this.visibilityPredicate = visibilityPredicate;
+        this.renderTemplate = ItemRenderTemplate.compile(itemStack);
+
+        Set<String> keys = new HashSet<>(Arrays.asList(renderTemplate.getKeys()));
+        if (visibilityCondition != null) {
+            PlaceholderTemplate.collectKeys(visibilityCondition, keys);
+        }
+        this.placeholderKeys = Collections.unmodifiableSet(keys);
+        this.staticItem = renderTemplate.isStatic() && visibilityCondition == null && visibilityPredicate == null;
+    }
+
+    /**
+     * Checks if this item renders the same for every viewer, such as fillers, borders and static icons.
+     * Static items are rendered once and the snapshot is reused by every open and refresh.
+     *
+     * @return true if the item has no placeholders and no visibility condition
+     */
+    public boolean isStatic() {
+        return staticItem;
+    }
+
     /**
      * Checks if this item should be visible for a player
      *
@@ -150,43 +213,96 @@ public class MenuItem {
      * @return a new MenuItem with replaced placeholders
      */
     public MenuItem withReplacedPlaceholders(@NotNull Player player, @NotNull Map<String, String> globalPlaceholders) {
-        Map<String, String> allPlaceholders = new HashMap<>(globalPlaceholders);
-        allPlaceholders.putAll(placeholders);
+        if (staticItem) {
+            return this;
+        }
 
-        dynamicPlaceholders.forEach((key, function) -> allPlaceholders.put(key, function.apply(player)));
+        return this.toBuilder()
+                .itemStack(render(player, globalPlaceholders))
+                .build();
+    }
 
-        ItemStack replaced = itemStack.clone();
-        if (replaced.hasItemMeta() && replaced.getItemMeta() != null) {
-            var meta = replaced.getItemMeta();
+    /**
+     * Renders the item stack with placeholders replaced in a single pass over the compiled template.
+     * Static items return a shared snapshot, which must not be modified.
+     *
+     * @param player the player to evaluate dynamic placeholders for
+     * @param globalPlaceholders global placeholders from the menu
+     * @return an item stack ready to be placed in an inventory
+     */
+    @NotNull
+    public ItemStack render(@NotNull Player player, @NotNull Map<String, String> globalPlaceholders) {
+        if (staticItem) {
+            return getStaticSnapshot();
+        }
 
-            if (meta.hasDisplayName()) {
-                String displayName = meta.getDisplayName();
-                for (Map.Entry<String, String> entry : allPlaceholders.entrySet()) {
-                    displayName = displayName.replace(entry.getKey(), entry.getValue());
-                }
-                meta.setDisplayName(displayName);
-            }
+        return render(resolveValues(player, globalPlaceholders));
+    }
 
-            if (meta.hasLore() && meta.getLore() != null) {
-                List<String> lore = new ArrayList<>(meta.getLore());
-                List<String> replacedLore = new ArrayList<>();
+    /**
+     * Resolves the values of the placeholders used by the name and lore.
+     * Equal values always render equal items, so the values can key a render cache.
+     *
+     * @param player the player to evaluate dynamic placeholders for
+     * @param globalPlaceholders global placeholders from the menu
+     * @return the values, indexed like the compiled template keys (empty for items without placeholders)
+     */
+    @NotNull
+    public String[] resolveValues(@NotNull Player player, @NotNull Map<String, String> globalPlaceholders) {
+        String[] keys = renderTemplate.getKeys();
+        String[] values = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = resolvePlaceholder(player, keys[i], globalPlaceholders);
+        }
+        return values;
+    }
 
-                for (String line : lore) {
-                    for (Map.Entry<String, String> entry : allPlaceholders.entrySet()) {
-                        line = line.replace(entry.getKey(), entry.getValue());
-                    }
-                    replacedLore.add(line);
-                }
+    /**
+     * Renders the item stack with already resolved values
+     *
+     * @param values the values from {@link #resolveValues(Player, Map)}
+     * @return an item stack ready to be placed in an inventory
+     */
+    @NotNull
+    public ItemStack render(@NotNull String[] values) {
+        if (staticItem) {
+            return getStaticSnapshot();
+        }
 
-                meta.setLore(replacedLore);
-            }
+        if (renderTemplate.isStatic()) {
+            return itemStack.clone();
+        }
+
+        return renderTemplate.render(itemStack, values);
+    }
 
-            replaced.setItemMeta(meta);
+    /**
+     * Gets the shared snapshot of a static item, copied from the base item on first use
+     * so later changes to the builder's item stack do not leak into open menus
+     */
+    @NotNull
+    private ItemStack getStaticSnapshot() {
+        ItemStack snapshot = staticSnapshot;
+        if (snapshot == null) {
+            snapshot = itemStack.clone();
+            staticSnapshot = snapshot;
         }
+        return snapshot;
+    }
 
-        return this.toBuilder()
-                .itemStack(replaced)
-                .build();
+    /**
+     * Resolves a single placeholder
+     * Priority: Dynamic > Item > Global
+     */
+    @Nullable
+    private String resolvePlaceholder(@NotNull Player player, @NotNull String key, @NotNull Map<String, String> globalPlaceholders) {
+        Function<Player, String> dynamic = dynamicPlaceholders.get(key);
+        if (dynamic != null) {
+            return dynamic.apply(player);
+        }
+
+        String value = placeholders.get(key);
+        return value != null ? value : globalPlaceholders.get(key);
     }
 
     /**
@@ -229,4 +345,11 @@ public class MenuItem {
                 .itemStack(itemStack)
                 .slot(slot);
     }
+
+    /**
+     * Builder class completed by Lombok, declared here to keep field defaults
+     */
+    public static class MenuItemBuilder {
+        private boolean clickable = true;
+    }
 }
\ No newline at end of file
@@ -1,36 +1,159 @@
 package com.mongenscave.mcmenuapi.processor;
 
 import lombok.experimental.UtilityClass;
-import org.bukkit.ChatColor;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.regex.Matcher;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 @UtilityClass
-@SuppressWarnings("deprecation")
 public class ColorProcessor {
-    private static final char COLOR_CHAR = '§';
-    private static final Pattern HEX_PATTERN = Pattern.compile("&#([A-Fa-f0-9]{6})");
+    public static final char COLOR_CHAR = '§';
+    private static final Pattern MINI_MESSAGE_TAG = Pattern.compile("<[/!#]?[a-zA-Z0-9_:#-]+(?::[^<>]*)?>");
 
+    /**
+     * Legacy section serializer that keeps hex colors in the {@code §x§r§r§g§g§b§b} format produced by {@link #process(String)}
+     */
+    private static final LegacyComponentSerializer LEGACY = LegacyComponentSerializer.builder()
+            .character(COLOR_CHAR)
+            .hexColors()
+            .useUnusualXRepeatedCharacterHexFormat()
+            .build();
+
+    private static final String CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx";
+    private static final int MEMO_LIMIT = 1024;
+    private static final int MEMO_MAX_LENGTH = 256;
+
+    /**
+     * Least recently used translations, guarded by its own monitor
+     */
+    private static final Map<String, String> MEMO = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MEMO_LIMIT;
+        }
+    };
+
+    /**
+     * Translates {@code &x} color codes and {@code &#rrggbb} hex colors to section codes.
+     * Short inputs are memoized (least recently used, bounded), text without {@code &} is returned as-is.
+     *
+     * @param message the text
+     * @return the translated text
+     */
     public @NotNull String process(@Nullable String message) {
         if (message == null) return "";
+        if (message.indexOf('&') == -1) return message;
+
+        if (message.length() > MEMO_MAX_LENGTH) {
+            return translate(message);
+        }
+
+        synchronized (MEMO) {
+            String cached = MEMO.get(message);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // Translated outside the lock, a concurrent miss on the same text only repeats the work
+        String translated = translate(message);
+        synchronized (MEMO) {
+            MEMO.put(message, translated);
+        }
+        return translated;
+    }
+
+    /**
+     * Single pass over the text; {@code &#rrggbb} becomes {@code §x§r§r§g§g§b§b}, {@code &a} becomes {@code §a}
+     */
+    @NotNull String translate(@NotNull String message) {
+        int length = message.length();
+        StringBuilder builder = new StringBuilder(length + 16);
+
+        for (int i = 0; i < length; i++) {
+            char c = message.charAt(i);
+            if (c != '&' || i + 1 >= length) {
+                builder.append(c);
+                continue;
+            }
 
-        Matcher matcher = HEX_PATTERN.matcher(message);
-        StringBuilder builder = new StringBuilder(message.length() + 4 * 8);
+            char next = message.charAt(i + 1);
+            if (next == '#' && isHex(message, i + 2)) {
+                builder.append(COLOR_CHAR).append('x');
+                for (int j = i + 2; j < i + 8; j++) {
+                    builder.append(COLOR_CHAR).append(message.charAt(j));
+                }
+                i += 7;
+            } else if (CODES.indexOf(next) != -1) {
+                builder.append(COLOR_CHAR).append(Character.toLowerCase(next));
+                i++;
+            } else {
+                builder.append(c);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private boolean isHex(@NotNull String message, int start) {
+        if (start + 6 > message.length()) return false;
+
+        for (int i = start; i < start + 6; i++) {
+            char c = message.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f') && (c < 'A' || c > 'F')) return false;
+        }
+        return true;
+    }
 
-        while (matcher.find()) {
-            String group = matcher.group(1);
+    /**
+     * Parses configured item text into a component, once at load.
+     * Text with MiniMessage tags (e.g. {@code <gold>Shop</gold>}) is parsed as MiniMessage,
+     * anything else as {@code &} and {@code &#rrggbb} color codes. Colored text is not italic.
+     *
+     * @param message the configured text
+     * @return the component
+     */
+    public @NotNull Component component(@Nullable String message) {
+        if (message == null || message.isEmpty()) return Component.empty();
 
-            matcher.appendReplacement(builder, COLOR_CHAR + "x"
-                    + COLOR_CHAR + group.charAt(0) + COLOR_CHAR + group.charAt(1)
-                    + COLOR_CHAR + group.charAt(2) + COLOR_CHAR + group.charAt(3)
-                    + COLOR_CHAR + group.charAt(4) + COLOR_CHAR + group.charAt(5)
-            );
+        if (isMiniMessage(message)) {
+            return MiniMessage.miniMessage().deserialize(message)
+                    .decorationIfAbsent(TextDecoration.ITALIC, TextDecoration.State.FALSE);
         }
 
-        String hexProcessed = matcher.appendTail(builder).toString();
-        return ChatColor.translateAlternateColorCodes('&', hexProcessed);
+        String legacy = process(message);
+        Component component = deserialize(legacy);
+        return legacy.indexOf(COLOR_CHAR) != -1
+                ? component.decorationIfAbsent(TextDecoration.ITALIC, TextDecoration.State.FALSE)
+                : component;
+    }
+
+    /**
+     * Checks if a text uses MiniMessage tags rather than legacy color codes
+     */
+    public boolean isMiniMessage(@NotNull String message) {
+        return message.indexOf('&') == -1 && message.indexOf(COLOR_CHAR) == -1
+                && MINI_MESSAGE_TAG.matcher(message).find();
+    }
+
+    /**
+     * Deserializes legacy section text (as returned by {@link #process(String)})
+     */
+    public @NotNull Component deserialize(@NotNull String legacy) {
+        return LEGACY.deserialize(legacy);
+    }
+
+    /**
+     * Serializes a component to legacy section text, keeping hex colors
+     */
+    public @NotNull String serialize(@NotNull Component component) {
+        return LEGACY.serialize(component);
     }
-}
\ No newline at end of file
+}
@@ -9,6 +9,9 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -17,15 +20,56 @@ import java.util.concurrent.atomic.AtomicLong;
 /**
  * Manages automatic menu refresh for all open menus.
  * Uses a single master task for efficiency.
+ * <p>
+ * Due refreshes are handed to the {@link RefreshCoalescer}, which merges them with refreshes requested in the
+ * same tick and applies queued auto-refreshes within a per-tick time budget. Refreshes that do not fit carry
+ * over to the next tick, so a burst of menus sharing the same interval is spread over several ticks.
+ * <p>
+ * Open menus are tracked in a {@link TimingWheel}: a menu is inserted at its next due tick when it is opened
+ * and rescheduled after each refresh, so a tick only touches the menus that are actually due. Sessions follow
+ * {@link #onMenuOpen(UUID, Menu)} and {@link #onMenuClose(UUID)}; a due session whose menu or refresh config
+ * was replaced restarts itself, and {@link #reconcile()} resynchronizes everything after bulk changes such as a reload.
+ * <p>
+ * Each session gets a phase within its interval, spread with the golden ratio so sessions opened
+ * together still land on different ticks. A session refreshes on the ticks where
+ * {@code tick % interval == phase}, which keeps its cadence exact even if a refresh was delayed by the budget.
+ * <p>
+ * A menu with several {@link RefreshGroup}s gets one session per group, so each group refreshes only
+ * its own slots at its own interval.
+ * <p>
+ * An adaptive {@link RefreshPolicy} stretches intervals for viewers who stopped clicking and while the
+ * server is lagging; see {@link #setPolicy(RefreshPolicy)}.
  */
 public class MenuRefreshManager {
 
+    /**
+     * Default time budget for refreshes per tick, in milliseconds
+     */
+    public static final int DEFAULT_TICK_BUDGET_MILLIS = RefreshCoalescer.DEFAULT_TICK_BUDGET_MILLIS;
+
+    private static final double GOLDEN_RATIO_CONJUGATE = 0.6180339887498949;
+
     private final Plugin plugin;
     private final McMenuAPI menuAPI;
     private BukkitTask masterTask;
     private final AtomicLong currentTick = new AtomicLong(0);
     private final Map<UUID, Long> lastRefresh = new ConcurrentHashMap<>();
 
+    /**
+     * Refresh sessions of open menus by player, one per refresh group (main thread only)
+     */
+    private final Map<UUID, List<Session>> sessions = new HashMap<>();
+    private TimingWheel<Session> wheel = new TimingWheel<>(0);
+    private final List<Session> dueSessions = new ArrayList<>();
+    private double phaseCursor;
+
+    @Getter private volatile RefreshPolicy policy = RefreshPolicy.DISABLED;
+
+    /**
+     * Smoothed interval multiplier from server load (main thread only)
+     */
+    private double loadScale = 1.0;
+
     @Getter private boolean running = false;
 
     public MenuRefreshManager(@NotNull Plugin plugin, @NotNull McMenuAPI menuAPI) {
@@ -40,41 +84,231 @@ public class MenuRefreshManager {
         if (running) return;
         running = true;
 
+        wheel = new TimingWheel<>(currentTick.get());
+        menuAPI.getOpenMenus().forEach(this::onMenuOpen);
+
         masterTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
             long tick = currentTick.incrementAndGet();
 
-            Map<UUID, Menu> openMenus = menuAPI.getOpenMenus();
-            if (openMenus.isEmpty()) return;
-
-            for (Map.Entry<UUID, Menu> entry : openMenus.entrySet()) {
-                UUID playerId = entry.getKey();
-                Menu menu = entry.getValue();
-
-                RefreshConfig config = menu.getRefreshConfig();
-                if (!config.isEnabled()) continue;
-
-                int interval = config.getIntervalTicks();
-                if (interval <= 0) continue;
-
-                if (tick % interval == 0) {
-                    Player player = Bukkit.getPlayer(playerId);
-                    if (player != null && player.isOnline()) {
-                        try {
-                            if (config.isRefreshAll()) {
-                                menu.refresh(player);
-                            } else {
-                                menu.refreshSlots(player, config.getSlots());
-                            }
-                            lastRefresh.put(playerId, tick);
-                        } catch (Exception e) {
-                            plugin.getLogger().warning("Failed to refresh menu for " + player.getName() + ": " + e.getMessage());
-                        }
-                    }
+            RefreshPolicy current = policy;
+            if (current.isLoadScaling() || loadScale != 1.0) {
+                loadScale = current.smooth(loadScale, current.loadTarget(Bukkit.getAverageTickTime()), 1);
+            }
+
+            dueSessions.clear();
+            wheel.advance(tick, dueSessions);
+
+            for (Session session : dueSessions) {
+                if (isCurrent(session)) {
+                    queueRefresh(session, tick);
                 }
             }
         }, 1L, 1L);
     }
 
+    /**
+     * Starts tracking a menu a player opened; each refresh group is first refreshed on the next tick matching
+     * its phase, somewhere within one interval from now (a full interval only if the phase falls on this tick).
+     * Must be called on the main thread whenever a menu is put into {@link McMenuAPI#getOpenMenus()}.
+     *
+     * @param playerId the player UUID
+     * @param menu the opened menu
+     */
+    public void onMenuOpen(@NotNull UUID playerId, @NotNull Menu menu) {
+        cancelSessions(playerId);
+
+        RefreshConfig config = menu.getRefreshConfig();
+        if (!config.isEnabled()) return;
+
+        long tick = currentTick.get();
+        List<Session> opened = new ArrayList<>(config.getGroups().size());
+        for (RefreshGroup group : config.getGroups()) {
+            if (group.getIntervalTicks() <= 0) continue;
+
+            Session session = new Session(playerId, menu, config, group, nextPhase(), tick);
+            session.entry = wheel.schedule(session, session.nextDueTick(tick, effectiveInterval(session, tick)));
+            opened.add(session);
+        }
+
+        if (!opened.isEmpty()) {
+            sessions.put(playerId, opened);
+        }
+    }
+
+    /**
+     * Gets the next phase of the low-discrepancy sequence {@code frac(n * 1/phi)}, which spreads
+     * any number of sessions evenly over an interval
+     */
+    private double nextPhase() {
+        phaseCursor = (phaseCursor + GOLDEN_RATIO_CONJUGATE) % 1.0;
+        return phaseCursor;
+    }
+
+    private void cancelSessions(@NotNull UUID playerId) {
+        List<Session> removed = sessions.remove(playerId);
+        if (removed == null) return;
+
+        for (Session session : removed) {
+            if (session.entry != null) {
+                session.entry.cancel();
+            }
+        }
+    }
+
+    /**
+     * Starts sessions for open menus that are not tracked (or whose refresh config changed) and drops
+     * sessions of players who no longer have a menu open. Walks every open menu, so it is meant for rare
+     * bulk changes that bypass the open and close hooks, e.g. reloading menus.
+     */
+    public void reconcile() {
+        Map<UUID, Menu> openMenus = menuAPI.getOpenMenus();
+
+        for (Map.Entry<UUID, Menu> entry : openMenus.entrySet()) {
+            List<Session> current = sessions.get(entry.getKey());
+            Menu menu = entry.getValue();
+            RefreshConfig config = menu.getRefreshConfig();
+
+            boolean tracked = current != null && current.get(0).menu == menu && current.get(0).config == config;
+            if (!tracked && (current != null || config.isEnabled())) {
+                onMenuOpen(entry.getKey(), menu);
+            }
+        }
+
+        List<UUID> closed = new ArrayList<>();
+        for (UUID playerId : sessions.keySet()) {
+            if (!openMenus.containsKey(playerId)) {
+                closed.add(playerId);
+            }
+        }
+        closed.forEach(this::onMenuClose);
+    }
+
+    private boolean isCurrent(@NotNull Session session) {
+        List<Session> current = sessions.get(session.playerId);
+        return current != null && current.contains(session);
+    }
+
+    /**
+     * Hands a due session to the coalescer and schedules its next refresh
+     */
+    private void queueRefresh(@NotNull Session session, long tick) {
+        UUID playerId = session.playerId;
+
+        // The menu or its refresh config may have been replaced since the session was scheduled
+        Menu menu = menuAPI.getOpenMenus().get(playerId);
+        if (menu == null) {
+            cancelSessions(playerId);
+            return;
+        }
+
+        if (menu != session.menu || menu.getRefreshConfig() != session.config) {
+            onMenuOpen(playerId, menu);
+            return;
+        }
+
+        Player player = Bukkit.getPlayer(playerId);
+        if (player == null || !player.isOnline()) {
+            cancelSessions(playerId);
+            return;
+        }
+
+        menuAPI.getRefreshCoalescer().requestAutoRefresh(playerId, menu, session.group);
+        lastRefresh.put(playerId, tick);
+
+        session.entry = wheel.schedule(session, session.nextDueTick(tick, effectiveInterval(session, tick)));
+    }
+
+    /**
+     * Gets a session's interval stretched by the policy, updating its smoothed idle multiplier
+     */
+    private int effectiveInterval(@NotNull Session session, long tick) {
+        int interval = session.group.getIntervalTicks();
+        RefreshPolicy current = policy;
+
+        session.idleScale = current.smooth(session.idleScale, current.idleTarget(tick - session.lastActivityTick), tick - session.scaledTick);
+        session.scaledTick = tick;
+
+        double scale = session.idleScale * loadScale;
+        if (scale <= 1.0) return interval;
+        return (int) Math.min(Integer.MAX_VALUE, Math.round(interval * scale));
+    }
+
+    /**
+     * Records that a player interacted with their menu, so the policy stops treating them as idle.
+     * Sessions slowed down while idle are rescheduled if their next refresh would now come sooner.
+     * Must be called on the main thread.
+     *
+     * @param playerId the player UUID
+     */
+    public void onActivity(@NotNull UUID playerId) {
+        List<Session> current = sessions.get(playerId);
+        if (current == null) return;
+
+        long tick = currentTick.get();
+        for (Session session : current) {
+            session.lastActivityTick = tick;
+            if (session.idleScale <= 1.0 || session.entry == null) continue;
+
+            long dueTick = session.nextDueTick(tick, effectiveInterval(session, tick));
+            if (dueTick < session.entry.getDueTick()) {
+                session.entry.cancel();
+                session.entry = wheel.schedule(session, dueTick);
+            }
+        }
+    }
+
+    /**
+     * Sets the policy that stretches refresh intervals for idle viewers and under load.
+     * New intervals apply from each session's next refresh.
+     *
+     * @param policy the policy, {@link RefreshPolicy#DISABLED} for fixed intervals
+     */
+    public void setPolicy(@NotNull RefreshPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Gets the current smoothed interval multiplier from server load
+     */
+    public double getLoadMultiplier() {
+        return loadScale;
+    }
+
+    /**
+     * Sets the time auto-refreshes may take per tick
+     *
+     * @param millis the budget in milliseconds, 0 or less for unlimited
+     * @see RefreshCoalescer#setTickBudgetMillis(double)
+     */
+    public void setTickBudgetMillis(double millis) {
+        menuAPI.getRefreshCoalescer().setTickBudgetMillis(millis);
+    }
+
+    /**
+     * Gets the time auto-refreshes may take per tick
+     *
+     * @return the budget in milliseconds, 0 if unlimited
+     */
+    public double getTickBudgetMillis() {
+        return menuAPI.getRefreshCoalescer().getTickBudgetMillis();
+    }
+
+    /**
+     * Gets the number of refreshes waiting for the end of the tick or for budget (main thread only)
+     */
+    public int getBacklogSize() {
+        return menuAPI.getRefreshCoalescer().getPendingCount();
+    }
+
+    /**
+     * Gets how many ticks the oldest pending refresh has been waiting (main thread only)
+     *
+     * @return the delay in ticks, 0 if nothing is pending
+     */
+    public long getBacklogTicks() {
+        return menuAPI.getRefreshCoalescer().getPendingTicks();
+    }
+
     /**
      * Stops the refresh manager
      */
@@ -85,6 +319,9 @@ public class MenuRefreshManager {
         }
         running = false;
         lastRefresh.clear();
+        sessions.clear();
+        wheel.clear();
+        loadScale = 1.0;
         currentTick.set(0);
     }
 
@@ -142,5 +379,42 @@ public class MenuRefreshManager {
      */
     public void onMenuClose(@NotNull UUID playerId) {
         lastRefresh.remove(playerId);
+        cancelSessions(playerId);
+        menuAPI.getRefreshCoalescer().cancel(playerId);
+    }
+
+    /**
+     * A refresh group of a menu a player has open, scheduled in the timing wheel
+     */
+    private static final class Session {
+        private final UUID playerId;
+        private final Menu menu;
+        private final RefreshConfig config;
+        private final RefreshGroup group;
+        private final double phase;
+        private TimingWheel.Entry<Session> entry;
+        private long lastActivityTick;
+        private double idleScale = 1.0;
+        private long scaledTick;
+
+        private Session(@NotNull UUID playerId, @NotNull Menu menu, @NotNull RefreshConfig config,
+                        @NotNull RefreshGroup group, double phase, long openTick) {
+            this.playerId = playerId;
+            this.menu = menu;
+            this.config = config;
+            this.group = group;
+            this.phase = phase;
+            this.lastActivityTick = openTick;
+            this.scaledTick = openTick;
+        }
+
+        /**
+         * Gets the first tick after the given one that lies on this session's phase
+         */
+        private long nextDueTick(long tick, int interval) {
+            long offset = (long) (phase * interval);
+            long delay = Math.floorMod(offset - tick, (long) interval);
+            return tick + (delay == 0 ? interval : delay);
+        }
     }
-}
\ No newline at end of file
+}
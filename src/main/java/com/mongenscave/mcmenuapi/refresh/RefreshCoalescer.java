@@ -0,0 +1,351 @@
+package com.mongenscave.mcmenuapi.refresh;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import com.mongenscave.mcmenuapi.menu.Menu;
+import com.mongenscave.mcmenuapi.menu.SimpleMenu;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects refresh requests during a tick and applies them once at the end of the tick.
+ * <p>
+ * Requests are marked dirty per player: repeated requests merge their slot sets, and any full refresh
+ * request upgrades the pending one. A click handler that refreshes, updates the context and changes
+ * the page therefore renders the menu once.
+ * <p>
+ * Requests from player interaction are always applied at the end of the tick. Auto-refresh requests
+ * are applied within a per-tick time budget (at least one per tick); the rest carry over to the next
+ * tick in the order they were queued.
+ * <p>
+ * Viewers of a shared menu see the same inventory, so once it was rendered in a flush, auto-refreshes
+ * of its other viewers skip the slots already rendered. Interactive requests always render.
+ */
+public class RefreshCoalescer implements Listener {
+
+    /**
+     * Default time budget for auto-refreshes per tick, in milliseconds
+     */
+    public static final int DEFAULT_TICK_BUDGET_MILLIS = 2;
+
+    private final Plugin plugin;
+
+    /**
+     * Pending refreshes by player, in the order they were first requested (main thread only)
+     */
+    private final LinkedHashMap<UUID, Request> pending = new LinkedHashMap<>();
+
+    /**
+     * Time budget per tick in nanoseconds, 0 for unlimited
+     */
+    private volatile long tickBudgetNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TICK_BUDGET_MILLIS);
+
+    @Getter private boolean running = false;
+
+    public RefreshCoalescer(@NotNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts flushing at the end of every tick
+     */
+    public void start() {
+        if (running) return;
+        running = true;
+
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * Stops flushing; pending refreshes are dropped
+     */
+    public void stop() {
+        if (!running) return;
+        running = false;
+
+        HandlerList.unregisterAll(this);
+        pending.clear();
+    }
+
+    /**
+     * Marks a player's menu for a full refresh at the end of the tick.
+     * Refreshes immediately if the coalescer is not running or this is not the main thread.
+     *
+     * @param player the player
+     * @param menu the menu the player has open
+     */
+    public void requestRefresh(@NotNull Player player, @NotNull Menu menu) {
+        if (!running || !Bukkit.isPrimaryThread()) {
+            menu.refresh(player);
+            return;
+        }
+
+        request(player.getUniqueId(), menu, true).markAll();
+    }
+
+    /**
+     * Marks slots of a player's menu for a refresh at the end of the tick.
+     * Refreshes immediately if the coalescer is not running or this is not the main thread.
+     *
+     * @param player the player
+     * @param menu the menu the player has open
+     * @param slots the slots to refresh
+     */
+    public void requestSlots(@NotNull Player player, @NotNull Menu menu, @NotNull Collection<Integer> slots) {
+        if (!running || !Bukkit.isPrimaryThread()) {
+            menu.refreshSlots(player, new ArrayList<>(slots));
+            return;
+        }
+
+        request(player.getUniqueId(), menu, true).markSlots(slots);
+    }
+
+    /**
+     * Queues an auto-refresh of a refresh group; it merges with any pending request of the player
+     * and is applied within the tick budget (main thread only)
+     *
+     * @param playerId the player UUID
+     * @param menu the menu the player has open
+     * @param group the due refresh group
+     */
+    void requestAutoRefresh(@NotNull UUID playerId, @NotNull Menu menu, @NotNull RefreshGroup group) {
+        Request request = request(playerId, menu, false);
+        if (group.isRefreshAll()) {
+            request.markAll();
+        } else {
+            request.markSlots(group.getSlots());
+        }
+    }
+
+    @NotNull
+    private Request request(@NotNull UUID playerId, @NotNull Menu menu, boolean interactive) {
+        Request request = pending.get(playerId);
+        if (request == null || request.menu != menu) {
+            // A request for a menu the player no longer has open is dropped
+            pending.remove(playerId);
+            request = new Request(playerId, menu, Bukkit.getCurrentTick());
+            pending.put(playerId, request);
+        }
+
+        request.interactive |= interactive;
+        return request;
+    }
+
+    /**
+     * Drops the pending refresh of a player (main thread only)
+     *
+     * @param playerId the player UUID
+     */
+    public void cancel(@NotNull UUID playerId) {
+        pending.remove(playerId);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEnd(@NotNull ServerTickEndEvent event) {
+        if (!pending.isEmpty()) {
+            flush();
+        }
+    }
+
+    /**
+     * Applies the pending refreshes: all interactive ones, and queued auto-refreshes until the budget is used up
+     */
+    public void flush() {
+        long budget = tickBudgetNanos;
+        long start = System.nanoTime();
+        boolean autoRefreshed = false;
+        Map<Menu, Set<Integer>> sharedRendered = new IdentityHashMap<>();
+
+        // Refreshes may request again (e.g. from refresh handlers); those are applied at the end of the next tick
+        List<Request> batch = new ArrayList<>(pending.values());
+        for (Request request : batch) {
+            if (!request.interactive && autoRefreshed && budget > 0 && System.nanoTime() - start >= budget) {
+                continue;
+            }
+
+            if (pending.get(request.playerId) != request) continue;
+            pending.remove(request.playerId);
+
+            Player player = Bukkit.getPlayer(request.playerId);
+            if (player == null || !player.isOnline() || request.menu.getInventory(player) == null) continue;
+
+            boolean shared = request.menu instanceof SimpleMenu simpleMenu && simpleMenu.isShared();
+            if (shared && !request.interactive && isRendered(sharedRendered, request)) continue;
+
+            if (apply(player, request) && shared) {
+                markRendered(sharedRendered, request);
+            }
+
+            autoRefreshed |= !request.interactive;
+        }
+    }
+
+    /**
+     * Applies the pending refresh of one player right away, e.g. before resolving a click against
+     * the menu, so the player's view matches the state changed by earlier clicks in the same tick
+     *
+     * @param playerId the player UUID
+     */
+    public void flush(@NotNull UUID playerId) {
+        if (!Bukkit.isPrimaryThread()) return;
+
+        Request request = pending.remove(playerId);
+        Player player = Bukkit.getPlayer(playerId);
+        if (request != null && player != null && player.isOnline() && request.menu.getInventory(player) != null) {
+            apply(player, request);
+        }
+    }
+
+    /**
+     * Refreshes a player's menu immediately and drops the refresh pending for it, which the full refresh covers.
+     * Used for changes that alter which item a slot resolves to, like page changes.
+     *
+     * @param player the player
+     * @param menu the menu the player has open
+     */
+    public void refreshNow(@NotNull Player player, @NotNull Menu menu) {
+        if (Bukkit.isPrimaryThread()) {
+            Request request = pending.get(player.getUniqueId());
+            if (request != null && request.menu == menu) {
+                pending.remove(player.getUniqueId());
+            }
+        }
+
+        menu.refresh(player);
+    }
+
+    /**
+     * Applies a request
+     *
+     * @return true if the menu was refreshed
+     */
+    private boolean apply(@NotNull Player player, @NotNull Request request) {
+        try {
+            if (request.slots == null) {
+                request.menu.refresh(player);
+            } else if (!request.slots.isEmpty()) {
+                request.menu.refreshSlots(player, new ArrayList<>(request.slots));
+            }
+            return true;
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to refresh menu for " + player.getName() + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Checks if a shared menu's auto-refresh is covered by renders earlier in this flush,
+     * dropping the slots that are already rendered
+     *
+     * @param rendered slots rendered per shared menu, a null value for all slots
+     */
+    private boolean isRendered(@NotNull Map<Menu, Set<Integer>> rendered, @NotNull Request request) {
+        if (!rendered.containsKey(request.menu)) return false;
+
+        Set<Integer> slots = rendered.get(request.menu);
+        if (slots == null) return true;
+        if (request.slots == null) return false;
+
+        request.slots.removeAll(slots);
+        return request.slots.isEmpty();
+    }
+
+    private void markRendered(@NotNull Map<Menu, Set<Integer>> rendered, @NotNull Request request) {
+        if (request.slots == null) {
+            rendered.put(request.menu, null);
+            return;
+        }
+
+        if (!rendered.containsKey(request.menu)) {
+            rendered.put(request.menu, new HashSet<>(request.slots));
+        } else if (rendered.get(request.menu) != null) {
+            rendered.get(request.menu).addAll(request.slots);
+        }
+    }
+
+    /**
+     * Checks if a player has a pending refresh (main thread only)
+     */
+    public boolean isPending(@NotNull UUID playerId) {
+        return pending.containsKey(playerId);
+    }
+
+    /**
+     * Gets the number of pending refreshes (main thread only)
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Gets how many ticks the oldest pending refresh has been waiting (main thread only)
+     *
+     * @return the delay in ticks, 0 if nothing is pending
+     */
+    public long getPendingTicks() {
+        if (pending.isEmpty()) return 0;
+        return Math.max(0, Bukkit.getCurrentTick() - pending.values().iterator().next().queuedTick);
+    }
+
+    /**
+     * Sets the time auto-refreshes may take per tick
+     *
+     * @param millis the budget in milliseconds, 0 or less for unlimited
+     */
+    public void setTickBudgetMillis(double millis) {
+        this.tickBudgetNanos = millis <= 0 ? 0 : (long) (millis * 1_000_000);
+    }
+
+    /**
+     * Gets the time auto-refreshes may take per tick
+     *
+     * @return the budget in milliseconds, 0 if unlimited
+     */
+    public double getTickBudgetMillis() {
+        return tickBudgetNanos / 1_000_000.0;
+    }
+
+    /**
+     * A dirty menu of one player; slots are null for a full refresh
+     */
+    private static final class Request {
+        private final UUID playerId;
+        private final Menu menu;
+        private final long queuedTick;
+        private Set<Integer> slots = new HashSet<>();
+        private boolean interactive;
+
+        private Request(@NotNull UUID playerId, @NotNull Menu menu, long queuedTick) {
+            this.playerId = playerId;
+            this.menu = menu;
+            this.queuedTick = queuedTick;
+        }
+
+        private void markAll() {
+            slots = null;
+        }
+
+        private void markSlots(@NotNull Collection<Integer> more) {
+            if (slots != null) {
+                slots.addAll(more);
+            }
+        }
+    }
+}
@@ -2,17 +2,23 @@ package com.mongenscave.mcmenuapi.refresh;
 
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 /**
  * Configuration for menu auto-refresh behavior.
+ * <p>
+ * A config is either a single interval with one slot list, or any number of named
+ * {@link RefreshGroup}s that each refresh their own slots at their own interval.
  */
 public class RefreshConfig {
     @Getter private final boolean enabled;
     @Getter private final int intervalTicks;
     private final List<Integer> slots;
+    private final List<RefreshGroup> groups;
 
     public static final RefreshConfig DISABLED = new RefreshConfig(false, 0, Collections.emptyList());
 
@@ -20,6 +26,25 @@ public class RefreshConfig {
         this.enabled = enabled;
         this.intervalTicks = intervalTicks;
         this.slots = slots;
+        this.groups = enabled && intervalTicks > 0
+                ? List.of(new RefreshGroup(RefreshGroup.DEFAULT, intervalTicks, slots))
+                : Collections.emptyList();
+    }
+
+    private RefreshConfig(@NotNull List<RefreshGroup> groups) {
+        this.groups = List.copyOf(groups);
+        this.enabled = !this.groups.isEmpty();
+        this.intervalTicks = this.groups.stream().mapToInt(RefreshGroup::getIntervalTicks).min().orElse(0);
+
+        List<Integer> union = new ArrayList<>();
+        for (RefreshGroup group : this.groups) {
+            if (group.isRefreshAll()) {
+                union.clear();
+                break;
+            }
+            union.addAll(group.getSlots());
+        }
+        this.slots = Collections.unmodifiableList(union);
     }
 
     /**
@@ -43,6 +68,27 @@ public class RefreshConfig {
         return new RefreshConfig(true, intervalTicks, slots);
     }
 
+    /**
+     * Creates a refresh config with independent refresh groups
+     *
+     * @param groups the groups; groups with an interval of 0 or less are ignored
+     * @return the config, disabled if no group is usable
+     */
+    public static RefreshConfig groups(@NotNull List<RefreshGroup> groups) {
+        List<RefreshGroup> usable = groups.stream().filter(group -> group.getIntervalTicks() > 0).toList();
+        return usable.isEmpty() ? DISABLED : new RefreshConfig(usable);
+    }
+
+    /**
+     * Creates a refresh config with independent refresh groups
+     *
+     * @param groups the groups
+     * @return the config
+     */
+    public static RefreshConfig groups(@NotNull RefreshGroup... groups) {
+        return groups(List.of(groups));
+    }
+
     /**
      * Creates a disabled refresh config
      *
@@ -53,7 +99,8 @@ public class RefreshConfig {
     }
 
     /**
-     * Gets the slots to refresh (empty = all slots)
+     * Gets the slots to refresh (empty = all slots).
+     * For a grouped config this is the union of all group slots.
      */
     @NotNull
     public List<Integer> getSlots() {
@@ -66,4 +113,30 @@ public class RefreshConfig {
     public boolean isRefreshAll() {
         return slots.isEmpty();
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the refresh groups; a single-interval config has one group named {@link RefreshGroup#DEFAULT}
+     *
+     * @return the groups, empty if disabled
+     */
+    @NotNull
+    public List<RefreshGroup> getGroups() {
+        return groups;
+    }
+
+    /**
+     * Gets a refresh group by name
+     *
+     * @param name the group name
+     * @return the group or null if there is none with that name
+     */
+    @Nullable
+    public RefreshGroup getGroup(@NotNull String name) {
+        for (RefreshGroup group : groups) {
+            if (group.getName().equals(name)) {
+                return group;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.mongenscave.mcmenuapi.refresh;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A named set of slots refreshed at its own interval.
+ * A menu can have any number of groups, e.g. a clock every second and a leaderboard every minute.
+ */
+@Getter
+public class RefreshGroup {
+
+    /**
+     * Name of the group built from the single-interval {@code auto-refresh} settings
+     */
+    public static final String DEFAULT = "default";
+
+    private final String name;
+    private final int intervalTicks;
+    private final List<Integer> slots;
+
+    public RefreshGroup(@NotNull String name, int intervalTicks, @NotNull List<Integer> slots) {
+        this.name = name;
+        this.intervalTicks = intervalTicks;
+        this.slots = List.copyOf(slots);
+    }
+
+    /**
+     * Creates a group that refreshes specific slots
+     *
+     * @param name the group name
+     * @param intervalTicks the interval in ticks
+     * @param slots the slots to refresh
+     * @return the group
+     */
+    public static RefreshGroup of(@NotNull String name, int intervalTicks, @NotNull List<Integer> slots) {
+        return new RefreshGroup(name, intervalTicks, slots);
+    }
+
+    /**
+     * Creates a group that refreshes all slots
+     *
+     * @param name the group name
+     * @param intervalTicks the interval in ticks
+     * @return the group
+     */
+    public static RefreshGroup all(@NotNull String name, int intervalTicks) {
+        return new RefreshGroup(name, intervalTicks, Collections.emptyList());
+    }
+
+    /**
+     * Checks if all slots should be refreshed
+     */
+    public boolean isRefreshAll() {
+        return slots.isEmpty();
+    }
+}
@@ -0,0 +1,116 @@
+package com.mongenscave.mcmenuapi.refresh;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Policy that stretches auto-refresh intervals for idle viewers and under server load.
+ * <p>
+ * A viewer who has not clicked in the menu for {@code idleAfterSeconds} is refreshed up to
+ * {@code idleMultiplier} times less often. When the average MSPT goes over {@code msptThreshold},
+ * every interval is stretched, reaching {@code maxLoadMultiplier} at {@code msptCeiling}.
+ * Both factors move towards their target with a time constant of {@code smoothingTicks}, so
+ * intervals stretch and recover gradually instead of jumping.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class RefreshPolicy {
+
+    /**
+     * Policy that never stretches intervals
+     */
+    public static final RefreshPolicy DISABLED = RefreshPolicy.builder().idleAfterSeconds(0).msptThreshold(0).build();
+
+    /**
+     * Seconds without a click before a viewer counts as idle, 0 to disable
+     */
+    @Builder.Default private final int idleAfterSeconds = 30;
+
+    /**
+     * Interval multiplier for idle viewers
+     */
+    @Builder.Default private final double idleMultiplier = 4.0;
+
+    /**
+     * Average MSPT above which intervals are stretched, 0 to disable
+     */
+    @Builder.Default private final double msptThreshold = 40.0;
+
+    /**
+     * Average MSPT at which the load multiplier reaches its maximum
+     */
+    @Builder.Default private final double msptCeiling = 50.0;
+
+    /**
+     * Interval multiplier at {@link #getMsptCeiling()}
+     */
+    @Builder.Default private final double maxLoadMultiplier = 4.0;
+
+    /**
+     * Time constant of the smoothing, in ticks
+     */
+    @Builder.Default private final int smoothingTicks = 100;
+
+    /**
+     * Creates a policy with the default idle and load settings
+     *
+     * @return the policy
+     */
+    public static RefreshPolicy adaptive() {
+        return RefreshPolicy.builder().build();
+    }
+
+    /**
+     * Checks if idle viewers are slowed down
+     */
+    public boolean isIdleScaling() {
+        return idleAfterSeconds > 0 && idleMultiplier > 1.0;
+    }
+
+    /**
+     * Checks if intervals are stretched under load
+     */
+    public boolean isLoadScaling() {
+        return msptThreshold > 0 && maxLoadMultiplier > 1.0;
+    }
+
+    /**
+     * Gets the target idle multiplier for a viewer
+     *
+     * @param idleTicks ticks since the viewer's last click
+     * @return the multiplier, 1 if not idle
+     */
+    public double idleTarget(long idleTicks) {
+        return isIdleScaling() && idleTicks >= idleAfterSeconds * 20L ? idleMultiplier : 1.0;
+    }
+
+    /**
+     * Gets the target load multiplier; it grows linearly from 1 at the threshold to the maximum at the ceiling
+     *
+     * @param mspt the average milliseconds per tick
+     * @return the multiplier, 1 below the threshold
+     */
+    public double loadTarget(double mspt) {
+        if (!isLoadScaling() || mspt <= msptThreshold) return 1.0;
+
+        double range = msptCeiling - msptThreshold;
+        double progress = range <= 0 ? 1.0 : Math.min(1.0, (mspt - msptThreshold) / range);
+        return 1.0 + (maxLoadMultiplier - 1.0) * progress;
+    }
+
+    /**
+     * Moves a multiplier towards its target by the elapsed ticks (exponential smoothing)
+     *
+     * @param current the current multiplier
+     * @param target the target multiplier
+     * @param elapsedTicks ticks since the last update
+     * @return the new multiplier
+     */
+    public double smooth(double current, double target, long elapsedTicks) {
+        if (smoothingTicks <= 0) return target;
+        if (elapsedTicks <= 0) return current;
+
+        double alpha = 1.0 - Math.exp(-(double) elapsedTicks / smoothingTicks);
+        return current + (target - current) * alpha;
+    }
+}
@@ -0,0 +1,125 @@
+package com.mongenscave.mcmenuapi.refresh;
+
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Prepares menu renders on a worker pool and commits them on the main thread.
+ * Placeholder maps, template filling and item stacks are built by the workers; the resulting
+ * inventory writes are queued and applied by a single main-thread task once per tick.
+ */
+public class RenderPipeline {
+
+    private final Plugin plugin;
+    private final int workers;
+    private final Queue<Runnable> commits = new ConcurrentLinkedQueue<>();
+    private ExecutorService executor;
+    private BukkitTask commitTask;
+
+    @Getter private boolean running = false;
+
+    public RenderPipeline(@NotNull Plugin plugin) {
+        this(plugin, Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)));
+    }
+
+    public RenderPipeline(@NotNull Plugin plugin, int workers) {
+        this.plugin = plugin;
+        this.workers = Math.max(1, workers);
+    }
+
+    /**
+     * Starts the worker pool and the commit task
+     */
+    public void start() {
+        if (running) return;
+        running = true;
+
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "McMenuAPI-Render-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        executor = Executors.newFixedThreadPool(workers, threadFactory);
+
+        commitTask = Bukkit.getScheduler().runTaskTimer(plugin, this::drainCommits, 1L, 1L);
+    }
+
+    /**
+     * Stops the worker pool and applies the commits that are already prepared
+     */
+    public void stop() {
+        if (!running) return;
+        running = false;
+
+        executor.shutdownNow();
+        executor = null;
+
+        if (commitTask != null && !commitTask.isCancelled()) {
+            commitTask.cancel();
+            commitTask = null;
+        }
+
+        if (Bukkit.isPrimaryThread()) {
+            drainCommits();
+        } else {
+            commits.clear();
+        }
+    }
+
+    /**
+     * Prepares a render on a worker thread and queues its commit for the main thread.
+     * Runs both steps immediately on the calling thread if the pipeline is not running.
+     *
+     * @param prepare builds the render off the main thread and returns the commit to apply on the main thread
+     */
+    public void submit(@NotNull Supplier<Runnable> prepare) {
+        ExecutorService current = executor;
+        if (!running || current == null) {
+            prepare.get().run();
+            return;
+        }
+
+        try {
+            current.execute(() -> {
+                try {
+                    commits.add(prepare.get());
+                } catch (Exception e) {
+                    plugin.getLogger().warning("Failed to prepare menu render: " + e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            prepare.get().run();
+        }
+    }
+
+    /**
+     * Gets the number of prepared renders waiting for the next commit
+     */
+    public int getPendingCommits() {
+        return commits.size();
+    }
+
+    private void drainCommits() {
+        Runnable commit;
+        while ((commit = commits.poll()) != null) {
+            try {
+                commit.run();
+            } catch (Exception e) {
+                plugin.getLogger().warning("Failed to commit menu render: " + e.getMessage());
+            }
+        }
+    }
+}
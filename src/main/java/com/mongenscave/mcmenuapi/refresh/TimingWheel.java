@@ -0,0 +1,142 @@
+package com.mongenscave.mcmenuapi.refresh;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel keyed by tick (main thread only).
+ * <p>
+ * Four levels of 64 slots cover about 16.7 million ticks. An entry sits in the lowest level whose
+ * window still contains its due tick and is cascaded down as the wheel turns, so advancing one tick
+ * only touches the entries that are due (plus the occasional cascade), never every scheduled entry.
+ *
+ * @param <T> the scheduled value
+ */
+final class TimingWheel<T> {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY = (1L << (BITS * LEVELS)) - 1;
+
+    private final List<List<Entry<T>>> slots;
+    private long now;
+    private int size;
+
+    TimingWheel(long startTick) {
+        this.now = startTick;
+        this.slots = new ArrayList<>(LEVELS * SLOTS);
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedules a value; due ticks that already passed fire on the next tick
+     *
+     * @param value the value
+     * @param dueTick the tick to fire at
+     * @return the entry, which can be cancelled
+     */
+    @NotNull
+    Entry<T> schedule(@NotNull T value, long dueTick) {
+        Entry<T> entry = new Entry<>(value, Math.min(Math.max(dueTick, now + 1), now + MAX_DELAY));
+        insert(entry);
+        return entry;
+    }
+
+    /**
+     * Turns the wheel up to a tick
+     *
+     * @param tick the current tick
+     * @param due collects the values due at or before the tick
+     */
+    void advance(long tick, @NotNull List<T> due) {
+        while (now < tick) {
+            now++;
+
+            // Cascade higher levels whose window starts at this tick, highest first
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((now & ((1L << (BITS * level)) - 1)) == 0) {
+                    List<Entry<T>> bucket = slot(level, (int) ((now >>> (BITS * level)) & MASK));
+                    if (!bucket.isEmpty()) {
+                        List<Entry<T>> cascaded = new ArrayList<>(bucket);
+                        bucket.clear();
+                        size -= cascaded.size();
+                        cascaded.forEach(this::insert);
+                    }
+                }
+            }
+
+            List<Entry<T>> bucket = slot(0, (int) (now & MASK));
+            if (!bucket.isEmpty()) {
+                for (Entry<T> entry : bucket) {
+                    if (!entry.cancelled) {
+                        due.add(entry.value);
+                    }
+                }
+                size -= bucket.size();
+                bucket.clear();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of scheduled entries, including cancelled ones not yet reached
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes every entry
+     */
+    void clear() {
+        slots.forEach(List::clear);
+        size = 0;
+    }
+
+    private void insert(@NotNull Entry<T> entry) {
+        if (entry.cancelled) {
+            return;
+        }
+
+        int level = 0;
+        while (level < LEVELS - 1 && (entry.dueTick >>> (BITS * (level + 1))) != (now >>> (BITS * (level + 1)))) {
+            level++;
+        }
+
+        slot(level, (int) ((entry.dueTick >>> (BITS * level)) & MASK)).add(entry);
+        size++;
+    }
+
+    @NotNull
+    private List<Entry<T>> slot(int level, int index) {
+        return slots.get(level * SLOTS + index);
+    }
+
+    static final class Entry<T> {
+        private final T value;
+        private final long dueTick;
+        private boolean cancelled;
+
+        private Entry(@NotNull T value, long dueTick) {
+            this.value = value;
+            this.dueTick = dueTick;
+        }
+
+        /**
+         * Cancels the entry; it is dropped when the wheel reaches it
+         */
+        void cancel() {
+            cancelled = true;
+        }
+
+        long getDueTick() {
+            return dueTick;
+        }
+    }
+}
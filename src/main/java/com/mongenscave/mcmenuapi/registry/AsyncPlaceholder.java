@@ -0,0 +1,236 @@
+package com.mongenscave.mcmenuapi.registry;
+
+import com.mongenscave.mcmenuapi.McMenuAPI;
+import com.mongenscave.mcmenuapi.menu.Menu;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Placeholder whose value is loaded by a {@link CompletableFuture}.
+ * <p>
+ * Renders never wait for the future: until the first value arrives the loading value is shown,
+ * afterwards the last loaded value is shown while a newer one loads. When a load completes with
+ * a different value, the slots using the placeholder are re-rendered on the main thread for every
+ * player that was shown the old value.
+ * <p>
+ * Without a {@link CachePolicy} a loaded value is kept until it is invalidated (or its source changes),
+ * so refreshes never start new loads on their own. With a policy the value is also reloaded once its TTL
+ * expires (per player or shared). Renders that only patch slots never start loads, so two async placeholders
+ * on the same item cannot keep triggering each other.
+ */
+public final class AsyncPlaceholder implements PlaceholderCache {
+
+    private static final Object SHARED_KEY = new Object();
+
+    /**
+     * Set while patched slots are rendered (main thread only)
+     */
+    private static boolean patching;
+
+    /**
+     * Checks if the current render only patches slots after an async load (main thread only).
+     * Such renders must run synchronously so they never start new loads.
+     *
+     * @return true while patched slots are rendered
+     */
+    public static boolean isPatching() {
+        return patching;
+    }
+
+    @Getter private final String placeholder;
+    @Getter private final String loadingValue;
+    @Nullable private final CachePolicy policy;
+    private final Map<Object, State> states = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an async placeholder
+     *
+     * @param placeholder the placeholder key (e.g., "{kills}")
+     * @param loadingValue the value shown until the first load completes
+     * @param policy how long loaded values are kept, or null to keep them until invalidated
+     */
+    public AsyncPlaceholder(@NotNull String placeholder, @NotNull String loadingValue, @Nullable CachePolicy policy) {
+        this.placeholder = placeholder;
+        this.loadingValue = loadingValue;
+        this.policy = policy;
+    }
+
+    /**
+     * Gets the current value for a player, starting a load if the value is missing or stale
+     *
+     * @param player the player the value is rendered for
+     * @param source the object the value belongs to (e.g., the menu context); a different source discards the kept value
+     * @param loader starts the load
+     * @return the last loaded value, or the loading value
+     */
+    @Nullable
+    public String get(@NotNull Player player, @Nullable Object source, @NotNull Supplier<CompletableFuture<String>> loader) {
+        Object key = isShared() ? SHARED_KEY : player.getUniqueId();
+        long now = System.currentTimeMillis();
+
+        State state = states.compute(key, (k, current) -> current == null || current.source != source ? new State(source) : current);
+
+        CompletableFuture<String> future;
+        synchronized (state) {
+            String current = state.loaded ? state.value : loadingValue;
+            boolean stale = !state.loaded || (policy != null && now - state.loadedAt >= policy.getTtlMillis());
+
+            if (!stale || patching) {
+                return current;
+            }
+
+            state.viewers.add(player.getUniqueId());
+            if (state.pending != null) {
+                return current;
+            }
+
+            try {
+                future = loader.get();
+            } catch (RuntimeException exception) {
+                return current;
+            }
+
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                state.complete(future.join(), now);
+                state.viewers.clear();
+                return state.value;
+            }
+
+            state.pending = future;
+        }
+
+        future.whenComplete((value, error) -> onComplete(key, state, value, error));
+
+        if (policy != null && policy.isBounded() && states.size() > policy.getMaxSize()) {
+            evict();
+        }
+
+        synchronized (state) {
+            return state.loaded ? state.value : loadingValue;
+        }
+    }
+
+    /**
+     * Stores a loaded value and patches the menus of the players that were shown the old one
+     */
+    private void onComplete(@NotNull Object key, @NotNull State state, @Nullable String value, @Nullable Throwable error) {
+        List<UUID> viewers;
+        synchronized (state) {
+            state.pending = null;
+            if (error != null) {
+                state.viewers.clear();
+                return;
+            }
+
+            boolean changed = !state.loaded || !Objects.equals(state.value, value);
+            state.complete(value, System.currentTimeMillis());
+
+            viewers = changed ? new ArrayList<>(state.viewers) : List.of();
+            state.viewers.clear();
+        }
+
+        if (states.get(key) == state && !viewers.isEmpty()) {
+            schedulePatch(viewers);
+        }
+    }
+
+    /**
+     * Re-renders the slots using this placeholder for the given players on the main thread
+     */
+    private void schedulePatch(@NotNull List<UUID> viewers) {
+        McMenuAPI api = McMenuAPI.getInstance();
+        if (api == null || !api.getPlugin().isEnabled()) {
+            return;
+        }
+
+        Bukkit.getScheduler().runTask(api.getPlugin(), () -> {
+            for (UUID viewer : viewers) {
+                Player player = Bukkit.getPlayer(viewer);
+                if (player == null) {
+                    continue;
+                }
+
+                Menu menu = api.getOpenMenu(player);
+                if (menu == null) {
+                    continue;
+                }
+
+                patching = true;
+                try {
+                    menu.refreshPlaceholder(player, placeholder);
+                } finally {
+                    patching = false;
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes the oldest idle values until the limit is met
+     */
+    private void evict() {
+        while (states.size() > policy.getMaxSize()) {
+            Map.Entry<Object, State> oldest = null;
+            for (Map.Entry<Object, State> candidate : states.entrySet()) {
+                State state = candidate.getValue();
+                if (state.pending == null && (oldest == null || state.loadedAt < oldest.getValue().loadedAt)) {
+                    oldest = candidate;
+                }
+            }
+
+            if (oldest == null) {
+                return;
+            }
+            states.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    private boolean isShared() {
+        return policy != null && policy.getScope() == CachePolicy.Scope.SHARED;
+    }
+
+    @Override
+    public void invalidate() {
+        states.clear();
+    }
+
+    @Override
+    public void invalidate(@NotNull UUID playerId) {
+        states.remove(isShared() ? SHARED_KEY : playerId);
+    }
+
+    @Override
+    public void forget(@NotNull UUID playerId) {
+        states.remove(playerId);
+    }
+
+    /**
+     * Loaded value and in-flight load of one player (or of everyone for shared placeholders)
+     */
+    private static final class State {
+        private final Object source;
+        private final Set<UUID> viewers = new HashSet<>();
+        private CompletableFuture<String> pending;
+        private String value;
+        private boolean loaded;
+        private long loadedAt;
+
+        private State(@Nullable Object source) {
+            this.source = source;
+        }
+
+        private void complete(@Nullable String value, long now) {
+            this.value = value;
+            this.loaded = true;
+            this.loadedAt = now;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.mongenscave.mcmenuapi.registry;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Caching rules for a dynamic placeholder registered in {@link PlaceholderRegistry}.
+ * <p>
+ * Values are served from the cache until the TTL expires. A {@link Scope#PLAYER} policy
+ * caches one value per player, a {@link Scope#SHARED} policy caches a single value for everyone.
+ *
+ * <h3>Example usage:</h3>
+ * <pre>{@code
+ * PlaceholderRegistry.registerGlobal("{balance}",
+ *         player -> format(economy.getBalance(player)),
+ *         CachePolicy.perPlayer(Duration.ofSeconds(30)).maxSize(500));
+ * }</pre>
+ */
+@Getter
+public final class CachePolicy {
+
+    /**
+     * Who a cached value is shared with
+     */
+    public enum Scope {
+        /** One value per player */
+        PLAYER,
+        /** One value for all players */
+        SHARED
+    }
+
+    private final long ttlMillis;
+    private final Scope scope;
+    private final int maxSize;
+
+    private CachePolicy(long ttlMillis, @NotNull Scope scope, int maxSize) {
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Cache max size cannot be negative");
+        }
+
+        this.ttlMillis = ttlMillis;
+        this.scope = scope;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Creates a policy that caches one value per player
+     *
+     * @param ttl how long a value stays valid
+     * @return the policy
+     */
+    @NotNull
+    public static CachePolicy perPlayer(@NotNull Duration ttl) {
+        return new CachePolicy(ttl.toMillis(), Scope.PLAYER, 0);
+    }
+
+    /**
+     * Creates a policy that caches a single value for all players
+     *
+     * @param ttl how long a value stays valid
+     * @return the policy
+     */
+    @NotNull
+    public static CachePolicy shared(@NotNull Duration ttl) {
+        return new CachePolicy(ttl.toMillis(), Scope.SHARED, 0);
+    }
+
+    /**
+     * Limits the number of cached values, evicting the oldest first
+     *
+     * @param maxSize the maximum number of values (0 = unbounded)
+     * @return a new policy with the limit
+     */
+    @NotNull
+    public CachePolicy maxSize(int maxSize) {
+        return new CachePolicy(ttlMillis, scope, maxSize);
+    }
+
+    /**
+     * Checks if the number of cached values is limited
+     */
+    public boolean isBounded() {
+        return maxSize > 0;
+    }
+}
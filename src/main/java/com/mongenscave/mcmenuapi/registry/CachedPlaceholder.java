@@ -0,0 +1,87 @@
+package com.mongenscave.mcmenuapi.registry;
+
+import lombok.Getter;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Dynamic placeholder function whose values are cached according to a {@link CachePolicy}
+ */
+final class CachedPlaceholder implements Function<Player, String>, PlaceholderCache {
+
+    private static final Object SHARED_KEY = new Object();
+
+    private final Function<Player, String> function;
+    @Getter private final CachePolicy policy;
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+
+    CachedPlaceholder(@NotNull Function<Player, String> function, @NotNull CachePolicy policy) {
+        this.function = function;
+        this.policy = policy;
+    }
+
+    @Override
+    @Nullable
+    public String apply(@NotNull Player player) {
+        Object key = policy.getScope() == CachePolicy.Scope.SHARED ? SHARED_KEY : player.getUniqueId();
+        long now = System.currentTimeMillis();
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.value;
+        }
+
+        String value = function.apply(player);
+        entries.put(key, new Entry(value, now + policy.getTtlMillis()));
+
+        if (policy.isBounded() && entries.size() > policy.getMaxSize()) {
+            evict(now);
+        }
+
+        return value;
+    }
+
+    @Override
+    public void invalidate() {
+        entries.clear();
+    }
+
+    @Override
+    public void invalidate(@NotNull UUID playerId) {
+        entries.remove(policy.getScope() == CachePolicy.Scope.SHARED ? SHARED_KEY : playerId);
+    }
+
+    @Override
+    public void forget(@NotNull UUID playerId) {
+        entries.remove(playerId);
+    }
+
+    /**
+     * Removes expired values, then the oldest ones until the cache fits its limit
+     */
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+
+        while (entries.size() > policy.getMaxSize()) {
+            Map.Entry<Object, Entry> oldest = null;
+            for (Map.Entry<Object, Entry> candidate : entries.entrySet()) {
+                if (oldest == null || candidate.getValue().expiresAt < oldest.getValue().expiresAt) {
+                    oldest = candidate;
+                }
+            }
+
+            if (oldest == null) {
+                return;
+            }
+            entries.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    private record Entry(@Nullable String value, long expiresAt) {}
+}
@@ -0,0 +1,26 @@
+package com.mongenscave.mcmenuapi.registry;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * A registered placeholder that keeps values between renders
+ */
+interface PlaceholderCache {
+
+    /**
+     * Drops every kept value
+     */
+    void invalidate();
+
+    /**
+     * Drops the value of one player (or the shared value for shared placeholders)
+     */
+    void invalidate(@NotNull UUID playerId);
+
+    /**
+     * Drops the value of a player that left, leaving shared values alone
+     */
+    void forget(@NotNull UUID playerId);
+}
@@ -4,18 +4,24 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Registry for dynamic placeholders
  * Supports global and player-specific dynamic placeholders
+ * Each placeholder can be registered with a {@link CachePolicy} to avoid recomputing slow values on every render,
+ * or asynchronously so slow lookups never block the render
  */
 public class PlaceholderRegistry {
-    private static final Map<String, Function<Player, String>> GLOBAL_DYNAMIC = new HashMap<>();
+    private static final Map<String, Function<Player, String>> GLOBAL_DYNAMIC = new ConcurrentHashMap<>();
     private static final Map<UUID, Map<String, Function<Player, String>>> PLAYER_DYNAMIC = new ConcurrentHashMap<>();
     private static final Map<String, Map<String, Function<Player, String>>> MENU_DYNAMIC = new ConcurrentHashMap<>();
 
@@ -27,22 +33,93 @@ public class PlaceholderRegistry {
         GLOBAL_DYNAMIC.put(placeholder, function);
     }
 
+    /**
+     * Register a global dynamic placeholder whose values are cached
+     * Example: registerGlobal("{balance}", player -> ..., CachePolicy.perPlayer(Duration.ofSeconds(30)))
+     */
+    public static void registerGlobal(@NotNull String placeholder, @NotNull Function<Player, String> function, @NotNull CachePolicy policy) {
+        registerGlobal(placeholder, new CachedPlaceholder(function, policy));
+    }
+
+    /**
+     * Register a global placeholder that does not depend on the viewer
+     * It is evaluated at most once per tick and the value is shared by every render in that tick
+     * Example: registerShared("{online}", () -> String.valueOf(Bukkit.getOnlinePlayers().size()))
+     */
+    public static void registerShared(@NotNull String placeholder, @NotNull Supplier<String> supplier) {
+        registerShared(placeholder, supplier, 1);
+    }
+
+    /**
+     * Register a global placeholder that does not depend on the viewer, evaluated at most once per interval
+     * Example: registerShared("{season_end}", () -> formatRemaining(season.getEnd()), 20)
+     */
+    public static void registerShared(@NotNull String placeholder, @NotNull Supplier<String> supplier, int intervalTicks) {
+        registerGlobal(placeholder, new SharedPlaceholder(supplier, intervalTicks));
+    }
+
+    /**
+     * Register a global placeholder loaded asynchronously
+     * The loading value is shown until the future completes, then the slots using it are updated
+     * The loaded value is kept until it is invalidated; use a cache policy to reload it after a TTL
+     * Example: registerGlobalAsync("{kills}", player -> stats.fetchKills(player), "&7Loading...")
+     */
+    public static void registerGlobalAsync(@NotNull String placeholder, @NotNull Function<Player, CompletableFuture<String>> loader, @NotNull String loadingValue) {
+        registerGlobal(placeholder, new AsyncFunction(new AsyncPlaceholder(placeholder, loadingValue, null), loader));
+    }
+
+    /**
+     * Register a global placeholder loaded asynchronously, reloading values once the cache policy's TTL expires
+     */
+    public static void registerGlobalAsync(@NotNull String placeholder, @NotNull Function<Player, CompletableFuture<String>> loader, @NotNull String loadingValue, @NotNull CachePolicy policy) {
+        registerGlobal(placeholder, new AsyncFunction(new AsyncPlaceholder(placeholder, loadingValue, policy), loader));
+    }
+
     /**
      * Register a player-specific dynamic placeholder
      */
     public static void registerPlayer(@NotNull UUID playerId, @NotNull String placeholder, @NotNull Function<Player, String> function) {
-        PLAYER_DYNAMIC.computeIfAbsent(playerId, k -> new HashMap<>())
+        PLAYER_DYNAMIC.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>())
                 .put(placeholder, function);
     }
 
+    /**
+     * Register a player-specific dynamic placeholder whose value is cached
+     */
+    public static void registerPlayer(@NotNull UUID playerId, @NotNull String placeholder, @NotNull Function<Player, String> function, @NotNull CachePolicy policy) {
+        registerPlayer(playerId, placeholder, new CachedPlaceholder(function, policy));
+    }
+
     /**
      * Register a menu-specific dynamic placeholder
      */
     public static void registerMenu(@NotNull String menuFileName, @NotNull String placeholder, @NotNull Function<Player, String> function) {
-        MENU_DYNAMIC.computeIfAbsent(menuFileName, k -> new HashMap<>())
+        MENU_DYNAMIC.computeIfAbsent(menuFileName, k -> new ConcurrentHashMap<>())
                 .put(placeholder, function);
     }
 
+    /**
+     * Register a menu-specific dynamic placeholder whose values are cached
+     */
+    public static void registerMenu(@NotNull String menuFileName, @NotNull String placeholder, @NotNull Function<Player, String> function, @NotNull CachePolicy policy) {
+        registerMenu(menuFileName, placeholder, new CachedPlaceholder(function, policy));
+    }
+
+    /**
+     * Register a menu-specific placeholder loaded asynchronously
+     * The loaded value is kept until it is invalidated; use a cache policy to reload it after a TTL
+     */
+    public static void registerMenuAsync(@NotNull String menuFileName, @NotNull String placeholder, @NotNull Function<Player, CompletableFuture<String>> loader, @NotNull String loadingValue) {
+        registerMenu(menuFileName, placeholder, new AsyncFunction(new AsyncPlaceholder(placeholder, loadingValue, null), loader));
+    }
+
+    /**
+     * Register a menu-specific placeholder loaded asynchronously, reloading values once the cache policy's TTL expires
+     */
+    public static void registerMenuAsync(@NotNull String menuFileName, @NotNull String placeholder, @NotNull Function<Player, CompletableFuture<String>> loader, @NotNull String loadingValue, @NotNull CachePolicy policy) {
+        registerMenu(menuFileName, placeholder, new AsyncFunction(new AsyncPlaceholder(placeholder, loadingValue, policy), loader));
+    }
+
     /**
      * Get a dynamic placeholder value
      * Priority: Player-specific > Menu-specific > Global
@@ -50,13 +127,15 @@ public class PlaceholderRegistry {
     @Nullable
     public static String resolve(@NotNull Player player, @NotNull String menuFileName, @NotNull String placeholder) {
         Map<String, Function<Player, String>> playerMap = PLAYER_DYNAMIC.get(player.getUniqueId());
-        if (playerMap != null && playerMap.containsKey(placeholder)) {
-            return playerMap.get(placeholder).apply(player);
+        Function<Player, String> playerFunc = playerMap != null ? playerMap.get(placeholder) : null;
+        if (playerFunc != null) {
+            return playerFunc.apply(player);
         }
 
         Map<String, Function<Player, String>> menuMap = MENU_DYNAMIC.get(menuFileName);
-        if (menuMap != null && menuMap.containsKey(placeholder)) {
-            return menuMap.get(placeholder).apply(player);
+        Function<Player, String> menuFunc = menuMap != null ? menuMap.get(placeholder) : null;
+        if (menuFunc != null) {
+            return menuFunc.apply(player);
         }
 
         Function<Player, String> globalFunc = GLOBAL_DYNAMIC.get(placeholder);
@@ -89,10 +168,75 @@ public class PlaceholderRegistry {
     }
 
     /**
-     * Clear all placeholders for a specific player
+     * Get only the requested dynamic placeholders for a player in a menu
+     * Resolvers for keys that are not requested are never called
+     */
+    @NotNull
+    public static Map<String, String> resolveAll(@NotNull Player player, @NotNull String menuFileName, @NotNull Collection<String> placeholders) {
+        Map<String, String> resolved = new HashMap<>();
+        if (placeholders.isEmpty()) {
+            return resolved;
+        }
+
+        for (String placeholder : placeholders) {
+            String value = resolve(player, menuFileName, placeholder);
+            if (value != null) {
+                resolved.put(placeholder, value);
+            }
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Drop all cached values of a placeholder, so it is recomputed on the next render
+     */
+    public static void invalidate(@NotNull String placeholder) {
+        forEachCached(placeholder, PlaceholderCache::invalidate);
+    }
+
+    /**
+     * Drop the cached value of a placeholder for one player
+     * Shared placeholders drop their single value
+     */
+    public static void invalidate(@NotNull String placeholder, @NotNull UUID playerId) {
+        forEachCached(placeholder, cached -> cached.invalidate(playerId));
+    }
+
+    /**
+     * Drop every cached placeholder value
+     */
+    public static void invalidateAll() {
+        forEachCached(null, PlaceholderCache::invalidate);
+    }
+
+    /**
+     * Runs an action on every cached placeholder with the given key (null = all keys)
+     */
+    private static void forEachCached(@Nullable String placeholder, @NotNull Consumer<PlaceholderCache> action) {
+        Consumer<Map<String, Function<Player, String>>> visit = functions -> functions.forEach((key, function) -> {
+            if (placeholder != null && !placeholder.equals(key)) {
+                return;
+            }
+
+            if (function instanceof PlaceholderCache cache) {
+                action.accept(cache);
+            } else if (function instanceof AsyncFunction async) {
+                action.accept(async.placeholder());
+            }
+        });
+
+        visit.accept(GLOBAL_DYNAMIC);
+        MENU_DYNAMIC.values().forEach(visit);
+        PLAYER_DYNAMIC.values().forEach(visit);
+    }
+
+    /**
+     * Clear all placeholders for a specific player, including the values cached for them
      */
     public static void clearPlayer(@NotNull UUID playerId) {
         PLAYER_DYNAMIC.remove(playerId);
+        forEachCached(null, cached -> cached.forget(playerId));
     }
 
     /**
@@ -110,4 +254,18 @@ public class PlaceholderRegistry {
         PLAYER_DYNAMIC.clear();
         MENU_DYNAMIC.clear();
     }
-}
\ No newline at end of file
+
+    /**
+     * Adapts an async placeholder to the registry's function maps
+     */
+    private record AsyncFunction(
+            @NotNull AsyncPlaceholder placeholder,
+            @NotNull Function<Player, CompletableFuture<String>> loader
+    ) implements Function<Player, String> {
+
+        @Override
+        public String apply(@NotNull Player player) {
+            return placeholder.get(player, null, () -> loader.apply(player));
+        }
+    }
+}
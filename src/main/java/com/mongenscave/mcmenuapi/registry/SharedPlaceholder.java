@@ -0,0 +1,60 @@
+package com.mongenscave.mcmenuapi.registry;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Player-independent placeholder evaluated at most once per tick interval.
+ * Every viewer rendered within the interval gets the same value.
+ */
+final class SharedPlaceholder implements Function<Player, String>, PlaceholderCache {
+
+    private final Supplier<String> supplier;
+    private final int intervalTicks;
+
+    private boolean computed;
+    private int computedTick;
+    private String value;
+
+    SharedPlaceholder(@NotNull Supplier<String> supplier, int intervalTicks) {
+        if (intervalTicks < 1) {
+            throw new IllegalArgumentException("Interval must be at least one tick");
+        }
+
+        this.supplier = supplier;
+        this.intervalTicks = intervalTicks;
+    }
+
+    @Override
+    @Nullable
+    public synchronized String apply(@NotNull Player player) {
+        int tick = Bukkit.getCurrentTick();
+        if (!computed || tick - computedTick >= intervalTicks || tick < computedTick) {
+            value = supplier.get();
+            computedTick = tick;
+            computed = true;
+        }
+        return value;
+    }
+
+    @Override
+    public synchronized void invalidate() {
+        computed = false;
+        value = null;
+    }
+
+    @Override
+    public void invalidate(@NotNull UUID playerId) {
+        invalidate();
+    }
+
+    @Override
+    public void forget(@NotNull UUID playerId) {
+    }
+}
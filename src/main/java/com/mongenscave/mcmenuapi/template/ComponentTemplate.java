@@ -0,0 +1,200 @@
+package com.mongenscave.mcmenuapi.template;
+
+import com.mongenscave.mcmenuapi.processor.ColorProcessor;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A component compiled into styled literal parts and placeholder slots, without going through legacy text.
+ * <p>
+ * The component tree is flattened into text runs that carry their effective style (color, decorations,
+ * hover, click, font, ...). Placeholders are found in the plain text of consecutive runs, so a token split
+ * over several components (e.g. by a MiniMessage gradient) is still recognised. A filled value takes the
+ * style of the token's first character; an unresolved slot keeps the original styled token.
+ * Non-text components (translatable, keybind, ...) are kept as they are and never contain placeholders.
+ */
+final class ComponentTemplate {
+
+    private final Object[] parts;
+    private final boolean isStatic;
+
+    private ComponentTemplate(@NotNull Object[] parts, boolean isStatic) {
+        this.parts = parts;
+        this.isStatic = isStatic;
+    }
+
+    /**
+     * Compiles a component, registering its placeholder keys in a shared key table
+     *
+     * @param component the component
+     * @param keyTable the key table slots should index into
+     * @return the compiled template
+     */
+    @NotNull
+    static ComponentTemplate compile(@NotNull Component component, @NotNull PlaceholderTemplate.KeyTable keyTable) {
+        List<Run> runs = new ArrayList<>();
+        flatten(component, Style.empty(), runs);
+
+        List<Object> parts = new ArrayList<>();
+        boolean dynamic = false;
+
+        int start = 0;
+        while (start < runs.size()) {
+            Run run = runs.get(start);
+            if (run.atomic != null) {
+                parts.add(run.atomic);
+                start++;
+                continue;
+            }
+
+            int end = start;
+            StringBuilder text = new StringBuilder();
+            while (end < runs.size() && runs.get(end).atomic == null) {
+                text.append(runs.get(end).text);
+                end++;
+            }
+
+            dynamic |= compileText(runs.subList(start, end), text.toString(), keyTable, parts);
+            start = end;
+        }
+
+        return new ComponentTemplate(parts.toArray(), !dynamic);
+    }
+
+    /**
+     * Compiles consecutive text runs into literal parts and slots
+     *
+     * @return true if the text has placeholders
+     */
+    private static boolean compileText(@NotNull List<Run> runs, @NotNull String text,
+                                       @NotNull PlaceholderTemplate.KeyTable keyTable, @NotNull List<Object> parts) {
+        PlaceholderTemplate template = PlaceholderTemplate.compile(text, keyTable);
+
+        int position = 0;
+        for (int slot = 0; slot < template.slotCount(); slot++) {
+            position = appendRange(runs, position, position + template.literal(slot).length(), parts);
+
+            int tokenEnd = position + template.token(slot).length();
+            List<Object> fallback = new ArrayList<>();
+            appendRange(runs, position, tokenEnd, fallback);
+            parts.add(new Slot(template, slot, styleAt(runs, position), fallback.toArray(new Component[0])));
+            position = tokenEnd;
+        }
+        appendRange(runs, position, text.length(), parts);
+
+        return !template.isStatic();
+    }
+
+    /**
+     * Flattens a component tree into runs with their effective style
+     */
+    private static void flatten(@NotNull Component component, @NotNull Style inherited, @NotNull List<Run> runs) {
+        Style style = component.style().merge(inherited, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+
+        if (component instanceof TextComponent text) {
+            if (!text.content().isEmpty()) {
+                runs.add(new Run(text.content(), style, null));
+            }
+        } else {
+            runs.add(new Run("", style, component.children(List.of()).style(style)));
+        }
+
+        for (Component child : component.children()) {
+            flatten(child, style, runs);
+        }
+    }
+
+    /**
+     * Appends the runs' text between two offsets, merging neighbours with the same style
+     *
+     * @return the end offset
+     */
+    private static int appendRange(@NotNull List<Run> runs, int from, int to, @NotNull List<Object> out) {
+        if (from >= to) return to;
+
+        StringBuilder pending = new StringBuilder();
+        Style pendingStyle = null;
+
+        int offset = 0;
+        for (Run run : runs) {
+            int runEnd = offset + run.text.length();
+            if (runEnd > from && offset < to) {
+                String slice = run.text.substring(Math.max(from, offset) - offset, Math.min(to, runEnd) - offset);
+                if (pendingStyle != null && !pendingStyle.equals(run.style)) {
+                    out.add(Component.text(pending.toString(), pendingStyle));
+                    pending.setLength(0);
+                }
+                pending.append(slice);
+                pendingStyle = run.style;
+            }
+            offset = runEnd;
+        }
+
+        if (pendingStyle != null) {
+            out.add(Component.text(pending.toString(), pendingStyle));
+        }
+        return to;
+    }
+
+    @NotNull
+    private static Style styleAt(@NotNull List<Run> runs, int position) {
+        int offset = 0;
+        for (Run run : runs) {
+            offset += run.text.length();
+            if (position < offset) {
+                return run.style;
+            }
+        }
+        return Style.empty();
+    }
+
+    /**
+     * Checks if the component has no placeholders
+     */
+    boolean isStatic() {
+        return isStatic;
+    }
+
+    /**
+     * Renders the component with the given values filled in
+     *
+     * @param values values indexed by the key table (null keeps the placeholder)
+     * @return the component
+     */
+    @NotNull
+    Component render(@NotNull String[] values) {
+        List<Component> children = new ArrayList<>(parts.length);
+        for (Object part : parts) {
+            if (part instanceof Slot slot) {
+                slot.render(values, children);
+            } else {
+                children.add((Component) part);
+            }
+        }
+        return Component.textOfChildren(children.toArray(new Component[0]));
+    }
+
+    private record Run(@NotNull String text, @NotNull Style style, @Nullable Component atomic) {
+    }
+
+    private record Slot(@NotNull PlaceholderTemplate template, int slot, @NotNull Style style, @NotNull Component[] fallback) {
+
+        void render(@NotNull String[] values, @NotNull List<Component> out) {
+            String value = template.value(slot, values);
+            if (value == null) {
+                out.addAll(List.of(fallback));
+            } else if (value.indexOf(ColorProcessor.COLOR_CHAR) != -1) {
+                // Values may carry their own section colors
+                out.add(Component.text().style(style).append(ColorProcessor.deserialize(value)).build());
+            } else {
+                out.add(Component.text(value, style));
+            }
+        }
+    }
+}
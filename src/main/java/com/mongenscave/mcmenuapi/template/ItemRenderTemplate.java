@@ -0,0 +1,148 @@
+package com.mongenscave.mcmenuapi.template;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Render template of an item's display name and lore, compiled once per menu item.
+ * Name and lore share a single key table so each placeholder is resolved once per render.
+ * <p>
+ * Templates are compiled from the Adventure components of the base item and rendered back to components,
+ * never through legacy text: styles the legacy format cannot express (hover, click, font, gradients)
+ * survive, and lines without placeholders are kept as they are.
+ */
+public final class ItemRenderTemplate {
+
+    private static final ItemRenderTemplate STATIC = new ItemRenderTemplate(null, null, null, new String[0], false);
+
+    private final ComponentTemplate name;
+    private final ComponentTemplate[] lore;
+    private final Component[] staticLore;
+    private final String[] keys;
+    private final boolean loreDynamic;
+
+    private ItemRenderTemplate(@Nullable ComponentTemplate name, @Nullable ComponentTemplate[] lore,
+                               @Nullable Component[] staticLore, @NotNull String[] keys, boolean loreDynamic) {
+        this.name = name;
+        this.lore = lore;
+        this.staticLore = staticLore;
+        this.keys = keys;
+        this.loreDynamic = loreDynamic;
+    }
+
+    /**
+     * Compiles the display name and lore of an item
+     *
+     * @param itemStack the base item
+     * @return the compiled template
+     */
+    @NotNull
+    public static ItemRenderTemplate compile(@NotNull ItemStack itemStack) {
+        if (!itemStack.hasItemMeta()) {
+            return STATIC;
+        }
+
+        ItemMeta meta = itemStack.getItemMeta();
+        if (meta == null) {
+            return STATIC;
+        }
+
+        PlaceholderTemplate.KeyTable keyTable = new PlaceholderTemplate.KeyTable();
+
+        ComponentTemplate name = null;
+        Component displayName = meta.hasDisplayName() ? meta.displayName() : null;
+        if (displayName != null) {
+            ComponentTemplate compiled = ComponentTemplate.compile(displayName, keyTable);
+            if (!compiled.isStatic()) {
+                name = compiled;
+            }
+        }
+
+        ComponentTemplate[] lore = null;
+        Component[] staticLore = null;
+        boolean loreDynamic = false;
+        List<Component> lines = meta.hasLore() ? meta.lore() : null;
+        if (lines != null && !lines.isEmpty()) {
+            lore = new ComponentTemplate[lines.size()];
+            staticLore = new Component[lines.size()];
+            for (int i = 0; i < lore.length; i++) {
+                Component line = lines.get(i);
+                ComponentTemplate compiled = ComponentTemplate.compile(line, keyTable);
+                if (compiled.isStatic()) {
+                    staticLore[i] = line;
+                } else {
+                    lore[i] = compiled;
+                    loreDynamic = true;
+                }
+            }
+        }
+
+        if (name == null && !loreDynamic) {
+            return STATIC;
+        }
+
+        return loreDynamic
+                ? new ItemRenderTemplate(name, lore, staticLore, keyTable.toArray(), true)
+                : new ItemRenderTemplate(name, null, null, keyTable.toArray(), false);
+    }
+
+    /**
+     * Checks if the item has no placeholders in its name or lore
+     *
+     * @return true if rendering never changes the item
+     */
+    public boolean isStatic() {
+        return keys.length == 0;
+    }
+
+    /**
+     * Gets the distinct placeholder keys used by the name and lore, in value index order
+     *
+     * @return the keys (do not modify)
+     */
+    @NotNull
+    public String[] getKeys() {
+        return keys;
+    }
+
+    /**
+     * Renders a copy of the base item with the given values filled in
+     *
+     * @param base the base item
+     * @param values values indexed like {@link #getKeys()} (null keeps the placeholder)
+     * @return a new item stack
+     */
+    @NotNull
+    public ItemStack render(@NotNull ItemStack base, @NotNull String[] values) {
+        ItemStack rendered = base.clone();
+        if (isStatic()) {
+            return rendered;
+        }
+
+        ItemMeta meta = rendered.getItemMeta();
+        if (meta == null) {
+            return rendered;
+        }
+
+        if (name != null) {
+            meta.displayName(name.render(values));
+        }
+
+        if (loreDynamic) {
+            List<Component> lines = new ArrayList<>(lore.length);
+            for (int i = 0; i < lore.length; i++) {
+                lines.add(staticLore[i] != null ? staticLore[i] : lore[i].render(values));
+            }
+            meta.lore(lines);
+        }
+
+        rendered.setItemMeta(meta);
+        return rendered;
+    }
+}
@@ -0,0 +1,22 @@
+package com.mongenscave.mcmenuapi.template;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Formats a resolved placeholder value, e.g. {@code {context.earned|number:#,##0.00}}.
+ * Implementations must be immutable and thread-safe, they are shared by every render.
+ *
+ * @see PlaceholderFormatters
+ */
+@FunctionalInterface
+public interface PlaceholderFormatter {
+
+    /**
+     * Formats a value
+     *
+     * @param value the resolved value
+     * @return the formatted value, or the input if it cannot be formatted
+     */
+    @NotNull
+    String format(@NotNull String value);
+}
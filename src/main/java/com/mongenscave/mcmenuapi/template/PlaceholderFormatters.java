@@ -0,0 +1,202 @@
+package com.mongenscave.mcmenuapi.template;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Built-in placeholder formatters, parsed once per distinct spec and cached.
+ *
+ * <h3>Syntax:</h3>
+ * <ul>
+ *     <li>{@code {x|number:#,##0.00}} - {@link DecimalFormat} pattern (root locale symbols)</li>
+ *     <li>{@code {x|date:HH:mm}} - {@link DateTimeFormatter} pattern; the value may be epoch millis (11+ digits) or {@code yyyy-MM-dd HH:mm:ss}</li>
+ *     <li>{@code {x|compact}} - 1200 becomes 1.2k, 3400000 becomes 3.4M</li>
+ * </ul>
+ * Formatters can be chained: {@code {x|number:0|compact}}. Unknown formatters leave the value unchanged.
+ */
+public final class PlaceholderFormatters {
+
+    /**
+     * Canonical date format used when converting dates to placeholder values
+     */
+    public static final DateTimeFormatter CANONICAL_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final PlaceholderFormatter IDENTITY = value -> value;
+    private static final Map<String, PlaceholderFormatter> CACHE = new ConcurrentHashMap<>();
+    private static final String[] COMPACT_SUFFIXES = {"", "k", "M", "B", "T", "Q"};
+    private static final int MIN_EPOCH_DIGITS = 11;
+
+    private PlaceholderFormatters() {
+    }
+
+    /**
+     * Gets the formatter for a spec (the part after the first {@code |} of a placeholder token)
+     *
+     * @param spec the formatter spec, e.g. {@code number:#,##0.00}
+     * @return the cached formatter
+     */
+    @NotNull
+    public static PlaceholderFormatter parse(@NotNull String spec) {
+        return CACHE.computeIfAbsent(spec, PlaceholderFormatters::create);
+    }
+
+    /**
+     * Formats a date with the canonical {@code yyyy-MM-dd HH:mm:ss} format in the system time zone
+     *
+     * @param temporal the date
+     * @return the formatted date
+     */
+    @NotNull
+    public static String formatCanonical(@NotNull TemporalAccessor temporal) {
+        if (temporal instanceof Instant instant) {
+            temporal = instant.atZone(ZoneId.systemDefault());
+        }
+        return CANONICAL_DATE.format(temporal);
+    }
+
+    @NotNull
+    private static PlaceholderFormatter create(@NotNull String spec) {
+        int pipe = spec.indexOf('|');
+        if (pipe != -1) {
+            PlaceholderFormatter first = create(spec.substring(0, pipe));
+            PlaceholderFormatter rest = create(spec.substring(pipe + 1));
+            return value -> rest.format(first.format(value));
+        }
+
+        int colon = spec.indexOf(':');
+        String name = (colon == -1 ? spec : spec.substring(0, colon)).trim().toLowerCase(Locale.ROOT);
+        String argument = colon == -1 ? "" : spec.substring(colon + 1);
+
+        try {
+            return switch (name) {
+                case "number" -> number(argument);
+                case "date" -> date(argument);
+                case "compact" -> PlaceholderFormatters::compact;
+                default -> IDENTITY;
+            };
+        } catch (IllegalArgumentException exception) {
+            return IDENTITY;
+        }
+    }
+
+    @NotNull
+    private static PlaceholderFormatter number(@NotNull String pattern) {
+        DecimalFormat format = new DecimalFormat(pattern, DecimalFormatSymbols.getInstance(Locale.ROOT));
+
+        return value -> {
+            BigDecimal number = parseNumber(value);
+            if (number == null) {
+                return value;
+            }
+
+            // DecimalFormat is not thread-safe; renders rarely overlap, so one shared instance is enough
+            synchronized (format) {
+                return format.format(number);
+            }
+        };
+    }
+
+    @NotNull
+    private static PlaceholderFormatter date(@NotNull String pattern) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern).withZone(ZoneId.systemDefault());
+
+        return value -> {
+            TemporalAccessor temporal = parseDate(value);
+            if (temporal == null) {
+                return value;
+            }
+
+            try {
+                return formatter.format(temporal);
+            } catch (DateTimeException exception) {
+                return value;
+            }
+        };
+    }
+
+    @NotNull
+    private static String compact(@NotNull String value) {
+        BigDecimal number = parseNumber(value);
+        if (number == null) {
+            return value;
+        }
+
+        double amount = number.doubleValue();
+        double absolute = Math.abs(amount);
+
+        int tier = 0;
+        while (absolute >= 1000 && tier < COMPACT_SUFFIXES.length - 1) {
+            absolute /= 1000;
+            tier++;
+        }
+
+        // Rounding can carry into the next tier (999950 -> 1000.0k)
+        double rounded = Math.round(absolute * 10) / 10.0;
+        if (rounded >= 1000 && tier < COMPACT_SUFFIXES.length - 1) {
+            rounded = Math.round(rounded / 100) / 10.0;
+            tier++;
+        }
+
+        String digits = rounded == Math.rint(rounded) ? String.valueOf((long) rounded) : String.valueOf(rounded);
+        return (amount < 0 ? "-" : "") + digits + COMPACT_SUFFIXES[tier];
+    }
+
+    @Nullable
+    private static BigDecimal parseNumber(@NotNull String value) {
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static TemporalAccessor parseDate(@NotNull String value) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+
+        // Shorter digit strings are years, counts and the like, not timestamps
+        if (trimmed.length() >= MIN_EPOCH_DIGITS && trimmed.chars().allMatch(Character::isDigit)) {
+            try {
+                return Instant.ofEpochMilli(Long.parseLong(trimmed));
+            } catch (NumberFormatException exception) {
+                return null;
+            }
+        }
+
+        try {
+            return LocalDateTime.parse(trimmed, CANONICAL_DATE);
+        } catch (DateTimeParseException ignored) {}
+
+        try {
+            return LocalDateTime.parse(trimmed);
+        } catch (DateTimeParseException ignored) {}
+
+        try {
+            return LocalDate.parse(trimmed);
+        } catch (DateTimeParseException ignored) {}
+
+        try {
+            return Instant.parse(trimmed);
+        } catch (DateTimeParseException ignored) {}
+
+        return null;
+    }
+}
@@ -0,0 +1,313 @@
+package com.mongenscave.mcmenuapi.template;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A piece of text compiled into literal segments and placeholder slots.
+ * <p>
+ * Placeholders are {@code {...}} tokens. Each slot points into a key table that can be
+ * shared between several templates (e.g. the name and lore lines of one item), so the
+ * values only have to be resolved once and filling is a single pass over the segments.
+ * Unresolved slots are written back as the original token.
+ * <p>
+ * A token may carry formatters after a {@code |}, e.g. {@code {context.earned|number:#,##0.00}}.
+ * The slot then points at the base key ({@code {context.earned}}) and the formatter, parsed once
+ * here, is applied to the resolved value (see {@link PlaceholderFormatters}).
+ */
+public final class PlaceholderTemplate {
+
+    private static final String[] NO_STRINGS = new String[0];
+    private static final int[] NO_INTS = new int[0];
+
+    private final String source;
+    private final String[] literals;
+    private final String[] tokens;
+    private final String[] keys;
+    private final int[] keyIndexes;
+    private final PlaceholderFormatter[] formatters;
+
+    private PlaceholderTemplate(@NotNull String source, @NotNull String[] literals, @NotNull String[] tokens,
+                                @NotNull String[] keys, @NotNull int[] keyIndexes, @Nullable PlaceholderFormatter[] formatters) {
+        this.source = source;
+        this.literals = literals;
+        this.tokens = tokens;
+        this.keys = keys;
+        this.keyIndexes = keyIndexes;
+        this.formatters = formatters;
+    }
+
+    /**
+     * Compiles a text using its own key table
+     *
+     * @param text the text to compile
+     * @return the compiled template
+     */
+    @NotNull
+    public static PlaceholderTemplate compile(@NotNull String text) {
+        return compile(text, new KeyTable());
+    }
+
+    /**
+     * Compiles a text, registering its placeholder keys in a shared key table
+     *
+     * @param text the text to compile
+     * @param keyTable the key table slots should index into
+     * @return the compiled template
+     */
+    @NotNull
+    public static PlaceholderTemplate compile(@NotNull String text, @NotNull KeyTable keyTable) {
+        List<String> literals = null;
+        List<String> tokens = null;
+        List<String> keys = null;
+        List<Integer> indexes = null;
+        List<PlaceholderFormatter> formatters = null;
+
+        int literalStart = 0;
+        int open = text.indexOf('{');
+
+        while (open != -1) {
+            int close = findTokenEnd(text, open);
+            if (close == -1) {
+                open = text.indexOf('{', open + 1);
+                continue;
+            }
+
+            if (literals == null) {
+                literals = new ArrayList<>();
+                tokens = new ArrayList<>();
+                keys = new ArrayList<>();
+                indexes = new ArrayList<>();
+                formatters = new ArrayList<>();
+            }
+
+            String token = text.substring(open, close + 1);
+            String key = baseKey(token);
+            literals.add(text.substring(literalStart, open));
+            tokens.add(token);
+            keys.add(key);
+            indexes.add(keyTable.indexOf(key));
+            formatters.add(key.length() == token.length() ? null : PlaceholderFormatters.parse(token.substring(token.indexOf('|') + 1, token.length() - 1)));
+
+            literalStart = close + 1;
+            open = text.indexOf('{', literalStart);
+        }
+
+        if (literals == null) {
+            return new PlaceholderTemplate(text, new String[]{text}, NO_STRINGS, NO_STRINGS, NO_INTS, null);
+        }
+
+        literals.add(text.substring(literalStart));
+
+        int[] keyIndexes = new int[indexes.size()];
+        for (int i = 0; i < keyIndexes.length; i++) {
+            keyIndexes[i] = indexes.get(i);
+        }
+
+        boolean formatted = formatters.stream().anyMatch(Objects::nonNull);
+
+        return new PlaceholderTemplate(text, literals.toArray(NO_STRINGS), tokens.toArray(NO_STRINGS), keys.toArray(NO_STRINGS),
+                keyIndexes, formatted ? formatters.toArray(new PlaceholderFormatter[0]) : null);
+    }
+
+    /**
+     * Strips the formatters from a placeholder token ({@code {x|compact}} becomes {@code {x}})
+     *
+     * @param token the placeholder token
+     * @return the key the value is resolved by
+     */
+    @NotNull
+    public static String baseKey(@NotNull String token) {
+        int pipe = token.indexOf('|');
+        if (pipe == -1) {
+            return token;
+        }
+        return "{" + token.substring(1, pipe).trim() + "}";
+    }
+
+    /**
+     * Collects the placeholder keys referenced by a text (without formatters)
+     *
+     * @param text the text to scan
+     * @param keys the collection to add the keys to
+     */
+    public static void collectKeys(@NotNull String text, @NotNull Collection<String> keys) {
+        int open = text.indexOf('{');
+        while (open != -1) {
+            int close = findTokenEnd(text, open);
+            if (close == -1) {
+                open = text.indexOf('{', open + 1);
+                continue;
+            }
+
+            keys.add(baseKey(text.substring(open, close + 1)));
+            open = text.indexOf('{', close + 1);
+        }
+    }
+
+    /**
+     * Finds the closing brace of a placeholder token, or -1 if the brace does not open one
+     */
+    private static int findTokenEnd(@NotNull String text, int open) {
+        for (int i = open + 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '}') {
+                return i == open + 1 ? -1 : i;
+            }
+            if (c == '{') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if this template contains no placeholders
+     *
+     * @return true if the text never changes
+     */
+    public boolean isStatic() {
+        return keyIndexes.length == 0;
+    }
+
+    /**
+     * Gets the original text
+     *
+     * @return the source text
+     */
+    @NotNull
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Fills the template with values indexed by the key table it was compiled against
+     *
+     * @param values the resolved values (null entries keep the original token)
+     * @return the filled text
+     */
+    @NotNull
+    public String fill(@NotNull String[] values) {
+        if (keyIndexes.length == 0) {
+            return source;
+        }
+
+        StringBuilder builder = new StringBuilder(source.length() + 16 * keyIndexes.length);
+        for (int i = 0; i < keyIndexes.length; i++) {
+            builder.append(literals[i]);
+
+            String value = values[keyIndexes[i]];
+            builder.append(value != null ? format(i, value) : tokens[i]);
+        }
+        builder.append(literals[keyIndexes.length]);
+
+        return builder.toString();
+    }
+
+    /**
+     * Fills the template from a placeholder map.
+     * Only usable on templates compiled with their own key table.
+     *
+     * @param placeholders placeholder to value map
+     * @return the filled text
+     */
+    @NotNull
+    public String fill(@NotNull Map<String, String> placeholders) {
+        if (keyIndexes.length == 0) {
+            return source;
+        }
+
+        StringBuilder builder = new StringBuilder(source.length() + 16 * keyIndexes.length);
+        for (int i = 0; i < keyIndexes.length; i++) {
+            builder.append(literals[i]);
+
+            String value = placeholders.get(keys[i]);
+            builder.append(value != null ? format(i, value) : tokens[i]);
+        }
+        builder.append(literals[keyIndexes.length]);
+
+        return builder.toString();
+    }
+
+    /**
+     * Gets the number of placeholder slots
+     */
+    int slotCount() {
+        return keyIndexes.length;
+    }
+
+    /**
+     * Gets the literal text before a slot; {@code literal(slotCount())} is the text after the last slot
+     */
+    @NotNull
+    String literal(int index) {
+        return literals[index];
+    }
+
+    /**
+     * Gets the original token of a slot
+     */
+    @NotNull
+    String token(int slot) {
+        return tokens[slot];
+    }
+
+    /**
+     * Gets the formatted value of a slot
+     *
+     * @param values the resolved values indexed by the key table
+     * @return the value, or null if it is not resolved
+     */
+    @Nullable
+    String value(int slot, @NotNull String[] values) {
+        String value = values[keyIndexes[slot]];
+        return value != null ? format(slot, value) : null;
+    }
+
+    @NotNull
+    private String format(int slot, @NotNull String value) {
+        if (formatters == null || formatters[slot] == null) {
+            return value;
+        }
+        return formatters[slot].format(value);
+    }
+
+    /**
+     * Ordered table of the distinct placeholder keys used by one or more templates
+     */
+    public static final class KeyTable {
+        private final List<String> keys = new ArrayList<>();
+
+        int indexOf(@NotNull String key) {
+            int index = keys.indexOf(key);
+            if (index == -1) {
+                keys.add(key);
+                index = keys.size() - 1;
+            }
+            return index;
+        }
+
+        /**
+         * Gets the keys in slot index order
+         *
+         * @return a new array of keys
+         */
+        @NotNull
+        public String[] toArray() {
+            return keys.toArray(NO_STRINGS);
+        }
+
+        /**
+         * Gets the number of distinct keys
+         */
+        public int size() {
+            return keys.size();
+        }
+    }
+}